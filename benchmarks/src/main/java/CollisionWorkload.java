@@ -0,0 +1,41 @@
+import bench.CollisionBenchmark;
+import bench.Workload;
+import java.util.Random;
+
+/**
+ * Sejumlah CollisionBenchmark.LOOKUPS pencarian MapGenerator.findCollision
+ * pada map level tertentu. Posisi bola diambil acak di seluruh area brick
+ * dan sedikit di luarnya, sehingga kasus kena dan tidak kena sama-sama
+ * terukur.
+ */
+public class CollisionWorkload implements Workload {
+    private static final int LOOKUPS = CollisionBenchmark.LOOKUPS;
+
+    private MapGenerator map;
+    private final int[] ballX = new int[LOOKUPS];
+    private final int[] ballY = new int[LOOKUPS];
+
+    @Override
+    public void setUp(int level) {
+        Random random = new Random(42);
+        map = new MapGenerator(level, random);
+
+        int width = map.getCols() * map.getBrickWidth();
+        int height = map.getRows() * map.getBrickHeight();
+        for (int i = 0; i < LOOKUPS; i++) {
+            ballX[i] = MapGenerator.OFFSET_X - Ball.SIZE + random.nextInt(width + Ball.SIZE * 2);
+            ballY[i] = MapGenerator.OFFSET_Y - Ball.SIZE + random.nextInt(height + Ball.SIZE * 2);
+        }
+    }
+
+    @Override
+    public Object run() {
+        int hits = 0;
+        for (int i = 0; i < LOOKUPS; i++) {
+            if (map.findCollision(ballX[i], ballY[i], Ball.SIZE, Ball.SIZE) >= 0) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+}
@@ -0,0 +1,177 @@
+import bench.Workload;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * Menggambar ke BufferedImage seukuran panel. State world disiapkan dengan
+ * sejumlah bola lalu dijalankan beberapa tick agar ada brick yang pecah dan
+ * bola tersebar; setiap subclass mengukur satu bagian penggambaran.
+ */
+public abstract class RenderWorkload implements Workload {
+    private static final int POWER_UP_COUNT = 16;
+
+    protected BufferedImage image;
+    protected Graphics2D g;
+    protected GameWorld world;
+    protected final ArrayList<PowerUp> powerUps = new ArrayList<>();
+
+    @Override
+    public void setUp(int ballCount) {
+        image = new BufferedImage(GameWorld.WIDTH, GameWorld.HEIGHT, BufferedImage.TYPE_INT_RGB);
+        g = image.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+        world = new GameWorld(42);
+        world.start();
+        GameInput input = new GameInput();
+        input.pressEnter();
+        world.step(input);
+        input.clear();
+
+        Random random = new Random(42);
+        BallStore balls = world.getBalls();
+        while (balls.size() < ballCount) {
+            int x = random.nextInt(GameWorld.WIDTH - Ball.SIZE);
+            int y = 250 + random.nextInt(250);
+            balls.add(x, y, Ball.getBaseSpeedX(1), -Ball.getBaseSpeedY(1));
+        }
+        for (int i = 0; i < 10; i++) {
+            world.step(input);
+        }
+
+        PowerUpType[] types = PowerUpType.values();
+        for (int i = 0; i < POWER_UP_COUNT; i++) {
+            powerUps.add(new PowerUp(random.nextInt(GameWorld.WIDTH - 30), random.nextInt(GameWorld.HEIGHT),
+                    types[i % types.length]));
+        }
+    }
+
+    @Override
+    public void tearDown() {
+        g.dispose();
+    }
+
+    /**
+     * Satu frame lengkap dari snapshot, seperti yang digambar GamePanel/GameCanvas
+     */
+    public static class Frame extends RenderWorkload {
+        private final GameRenderer renderer = new GameRenderer();
+        private final FrameSnapshot frame = new FrameSnapshot();
+        private long now;
+
+        @Override
+        public void setUp(int ballCount) {
+            super.setUp(ballCount);
+            now = System.nanoTime();
+            frame.capture(world, now, 1_000_000_000L / GameWorld.TICKS_PER_SECOND);
+        }
+
+        @Override
+        public Object run() {
+            renderer.render(g, frame, now);
+            return image;
+        }
+    }
+
+    /**
+     * Field brick lewat BrickLayer, seperti di GameRenderer. Dua snapshot
+     * (sebelum dan sesudah satu brick pecah) dipakai bergantian, sehingga
+     * setiap frame menambal sel yang berubah lalu mem-blit layer.
+     */
+    public static class Bricks extends RenderWorkload {
+        private final BrickLayer layer = new BrickLayer();
+        private final FrameSnapshot before = new FrameSnapshot();
+        private final FrameSnapshot after = new FrameSnapshot();
+        private boolean broken;
+
+        @Override
+        public void setUp(int ballCount) {
+            super.setUp(ballCount);
+            long now = System.nanoTime();
+            long tickNanos = 1_000_000_000L / GameWorld.TICKS_PER_SECOND;
+            before.capture(world, now, tickNanos);
+
+            MapGenerator map = world.getMap();
+            int row = 0;
+            int col = map.nextBrick(row, 0, map.getCols() - 1);
+            while (col < 0 && row < map.getRows() - 1) {
+                col = map.nextBrick(++row, 0, map.getCols() - 1);
+            }
+            if (col >= 0) {
+                map.setBrickValue(0, row, col);
+            }
+            after.capture(world, now, tickNanos);
+        }
+
+        @Override
+        public Object run() {
+            broken = !broken;
+            layer.update(broken ? after : before);
+            layer.draw(g);
+            return image;
+        }
+    }
+
+    /**
+     * Power-up yang sedang jatuh lewat PowerUp.drawAt, seperti di GameRenderer
+     */
+    public static class PowerUps extends RenderWorkload {
+        @Override
+        public Object run() {
+            for (int i = 0; i < powerUps.size(); i++) {
+                PowerUp p = powerUps.get(i);
+                PowerUp.drawAt(g, p.getX(), p.getY(), p.getWidth(), p.getHeight(), p.getType(),
+                        RenderQuality.FULL);
+            }
+            return image;
+        }
+    }
+
+    /**
+     * Satu tick, capture snapshot, dan satu frame pada map selebar parameter
+     * (dalam kolom) dengan 10 baris, sambil paddle bergerak sehingga kamera
+     * bergulir (lihat ScrollBenchmark)
+     */
+    public static class Scrolling implements Workload {
+        private BufferedImage image;
+        private Graphics2D g;
+        private GameWorld world;
+        private final GameInput input = new GameInput();
+        private final GameRenderer renderer = new GameRenderer();
+        private final FrameSnapshot frame = new FrameSnapshot();
+        private int tick;
+
+        @Override
+        public void setUp(int mapColumns) {
+            image = new BufferedImage(GameWorld.WIDTH, GameWorld.HEIGHT, BufferedImage.TYPE_INT_RGB);
+            g = image.createGraphics();
+            world = new GameWorld(42);
+            world.setMapSize(10, mapColumns);
+            world.start();
+        }
+
+        @Override
+        public Object run() {
+            // Bergerak ke kanan 200 tick lalu ke kiri 200 tick
+            input.setPaddleAxis((tick++ / 200) % 2 == 0 ? 1 : -1);
+            if (world.getGameState() != GameState.PLAYING) {
+                input.pressEnter();
+            }
+            world.step(input);
+            input.clear();
+
+            long now = System.nanoTime();
+            frame.capture(world, now, 1_000_000_000L / GameWorld.TICKS_PER_SECOND);
+            renderer.render(g, frame, now);
+            return image;
+        }
+
+        @Override
+        public void tearDown() {
+            g.dispose();
+        }
+    }
+}
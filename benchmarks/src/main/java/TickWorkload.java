@@ -0,0 +1,70 @@
+import bench.Workload;
+import java.util.Random;
+
+/**
+ * Satu tick GameWorld dengan jumlah bola tetap. Bola yang jatuh keluar
+ * layar diganti setiap tick, dan level yang selesai/game over langsung
+ * dilanjutkan dengan Enter, sehingga jumlah bola konstan selama pengukuran.
+ */
+public class TickWorkload implements Workload {
+    private GameWorld world;
+    private final GameInput idle = new GameInput();
+    private final GameInput enter = new GameInput();
+    private final Random random = new Random(42);
+    private int ballCount;
+
+    @Override
+    public void setUp(int ballCount) {
+        this.ballCount = ballCount;
+        world = new GameWorld(42);
+        world.setParallel(isParallel());
+        world.start();
+        enter.pressEnter();
+        world.step(enter);
+        refill();
+    }
+
+    @Override
+    public Object run() {
+        if (world.getGameState() == GameState.PLAYING) {
+            world.step(idle);
+        } else {
+            // Level selesai, game over, atau menang: mulai lagi
+            world.step(enter);
+        }
+        refill();
+        return world;
+    }
+
+    protected boolean isParallel() {
+        return false;
+    }
+
+    /**
+     * Menambah bola baru di bagian bawah layar (bergerak ke atas) sampai
+     * jumlahnya kembali ballCount
+     */
+    private void refill() {
+        BallStore balls = world.getBalls();
+        int level = world.getLevel();
+        while (balls.size() < ballCount) {
+            double speedX = Ball.getBaseSpeedX(level);
+            if (random.nextBoolean()) {
+                speedX = -speedX;
+            }
+            int x = random.nextInt(GameWorld.WIDTH - Ball.SIZE);
+            int y = 300 + random.nextInt(200);
+            balls.add(x, y, speedX, -Ball.getBaseSpeedY(level));
+        }
+    }
+
+    /**
+     * Sama seperti TickWorkload, dengan pemrosesan bola paralel
+     */
+    public static class Parallel extends TickWorkload {
+        @Override
+        protected boolean isParallel() {
+            return true;
+        }
+    }
+}
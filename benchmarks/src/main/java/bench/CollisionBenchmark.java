@@ -0,0 +1,47 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Waktu satu pencarian tabrakan bola-brick (MapGenerator.findCollision) per
+ * level; level 1-5 memiliki 3-7 baris brick. Lihat CollisionWorkload.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionBenchmark {
+    // Jumlah pencarian dalam satu pemanggilan CollisionWorkload.run()
+    public static final int LOOKUPS = 1024;
+
+    @Param({"1", "2", "3", "4", "5"})
+    public int level;
+
+    private Workload collision;
+
+    @Setup
+    public void setUp() {
+        collision = Workload.load("CollisionWorkload");
+        collision.setUp(level);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public Object findCollision() {
+        return collision.run();
+    }
+}
@@ -0,0 +1,54 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Waktu menggambar bagian-bagian frame secara terpisah ke BufferedImage
+ * off-screen dalam mode headless: field brick (BrickLayer) dan sekumpulan
+ * power-up yang jatuh (PowerUp.drawAt). Lihat RenderWorkload.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class DrawBenchmark {
+    private Workload bricks;
+    private Workload powerUps;
+
+    @Setup
+    public void setUp() {
+        bricks = Workload.load("RenderWorkload$Bricks");
+        powerUps = Workload.load("RenderWorkload$PowerUps");
+        bricks.setUp(1);
+        powerUps.setUp(1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        bricks.tearDown();
+        powerUps.tearDown();
+    }
+
+    @Benchmark
+    public Object drawBricks() {
+        return bricks.run();
+    }
+
+    @Benchmark
+    public Object drawPowerUps() {
+        return powerUps.run();
+    }
+}
@@ -0,0 +1,49 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Waktu menggambar satu frame penuh (GameRenderer) ke BufferedImage
+ * off-screen dalam mode headless, dengan jumlah bola tertentu.
+ * Lihat RenderWorkload.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class RenderBenchmark {
+    @Param({"1", "100", "10000"})
+    public int ballCount;
+
+    private Workload frame;
+
+    @Setup
+    public void setUp() {
+        frame = Workload.load("RenderWorkload$Frame");
+        frame.setUp(ballCount);
+    }
+
+    @TearDown
+    public void tearDown() {
+        frame.tearDown();
+    }
+
+    @Benchmark
+    public Object renderFrame() {
+        return frame.run();
+    }
+}
@@ -0,0 +1,49 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Waktu satu tick + snapshot + frame pada map 10 baris dengan lebar tertentu
+ * (sampai 1 juta brick) sementara kamera bergulir. Hasilnya seharusnya
+ * hampir sama untuk semua lebar map. Lihat RenderWorkload.Scrolling.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ScrollBenchmark {
+    @Param({"100", "10000", "100000"})
+    public int mapColumns;
+
+    private Workload scrolling;
+
+    @Setup
+    public void setUp() {
+        scrolling = Workload.load("RenderWorkload$Scrolling");
+        scrolling.setUp(mapColumns);
+    }
+
+    @TearDown
+    public void tearDown() {
+        scrolling.tearDown();
+    }
+
+    @Benchmark
+    public Object scrollingFrame() {
+        return scrolling.run();
+    }
+}
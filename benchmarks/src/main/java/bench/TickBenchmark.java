@@ -0,0 +1,46 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Jumlah tick simulasi (GameWorld.step) per detik dengan jumlah bola tertentu,
+ * dengan pemrosesan bola biasa maupun paralel. Lihat TickWorkload.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TickBenchmark {
+    @Param({"1", "100", "10000"})
+    public int ballCount;
+
+    @Param({"sequential", "parallel"})
+    public String mode;
+
+    private Workload tick;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        tick = Workload.load("parallel".equals(mode) ? "TickWorkload$Parallel" : "TickWorkload");
+        tick.setUp(ballCount);
+    }
+
+    @Benchmark
+    public Object tick() {
+        return tick.run();
+    }
+}
@@ -0,0 +1,38 @@
+package bench;
+
+/**
+ * Beban kerja yang diukur oleh sebuah benchmark.
+ *
+ * Kode game berada di default package, sedangkan JMH mewajibkan class
+ * benchmark berada di package bernama, dan class di package bernama tidak
+ * dapat mengimpor class dari default package. Karena itu beban kerja
+ * ditulis di default package (yang bebas memakai class game), lalu dimuat
+ * oleh benchmark lewat nama class dan dipanggil melalui interface ini.
+ */
+public interface Workload {
+    /**
+     * Menyiapkan state sebelum pengukuran
+     *
+     * @param param Nilai @Param benchmark (jumlah bola, level, ...)
+     */
+    void setUp(int param);
+
+    /**
+     * Satu operasi yang diukur; hasilnya dikembalikan agar tidak dihapus JIT
+     */
+    Object run();
+
+    default void tearDown() {
+    }
+
+    /**
+     * Membuat instance beban kerja dari nama class di default package
+     */
+    static Workload load(String className) {
+        try {
+            return (Workload) Class.forName(className).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Beban kerja tidak ditemukan: " + className, e);
+        }
+    }
+}
@@ -2,19 +2,16 @@ import java.awt.Color;
 import java.awt.GradientPaint;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.awt.Rectangle;
 import java.awt.RenderingHints;
 
 /**
- * Merepresentasikan bola dalam game Brick Blast.
- * Menampilkan efek gradient yang bersinar untuk tampilan visual yang menarik.
+ * Konstanta dan fungsi bantu bola dalam game Brick Blast: cara menggambar
+ * bola dengan efek gradient yang bersinar serta aturan kecepatannya.
+ * State bola sendiri (posisi dan arah) disimpan di BallStore.
  */
-public class Ball {
-    private int posX;
-    private int posY;
-    private double dirX;
-    private double dirY;
-    private int size = 20;
+public final class Ball {
+    // Ukuran (diameter) bola
+    public static final int SIZE = 20;
 
     // Kecepatan dasar sebagai referensi
     private static final double BASE_SPEED_X = 2.5;
@@ -23,108 +20,65 @@ public class Ball {
     // Warna untuk efek gradient
     private static final Color BALL_COLOR_INNER = new Color(255, 255, 100);
     private static final Color BALL_COLOR_OUTER = new Color(255, 180, 0);
+    private static final Color HIGHLIGHT_COLOR = new Color(255, 255, 255, 180);
     private static final Color GLOW_COLOR = new Color(255, 200, 50, 100);
 
-    public Ball(int startX, int startY, double startDirX, double startDirY) {
-        this.posX = startX;
-        this.posY = startY;
-        this.dirX = startDirX;
-        this.dirY = startDirY;
+    private Ball() {
     }
 
-    public void move() {
-        posX += (int) dirX;
-        posY += (int) dirY;
-    }
-
-    public void draw(Graphics g) {
+    /**
+     * Menggambar bola pada posisi tertentu dengan efek sesuai tingkat kualitas
+     * (dipakai renderer yang menggambar dari FrameSnapshot)
+     */
+    public static void drawAt(Graphics g, int x, int y, int size, RenderQuality quality) {
         Graphics2D g2d = (Graphics2D) g;
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, quality.isAntialiased()
+                ? RenderingHints.VALUE_ANTIALIAS_ON : RenderingHints.VALUE_ANTIALIAS_OFF);
 
         // Gambar efek glow (lingkaran besar semi-transparan)
-        g2d.setColor(GLOW_COLOR);
-        g2d.fillOval(posX - 4, posY - 4, size + 8, size + 8);
+        if (quality.hasGlow()) {
+            g2d.setColor(GLOW_COLOR);
+            g2d.fillOval(x - 4, y - 4, size + 8, size + 8);
+        }
 
         // Gambar bola dengan gradient
-        GradientPaint gradient = new GradientPaint(
-                posX, posY, BALL_COLOR_INNER,
-                posX + size, posY + size, BALL_COLOR_OUTER);
-        g2d.setPaint(gradient);
-        g2d.fillOval(posX, posY, size, size);
+        if (quality.hasGradients()) {
+            GradientPaint gradient = new GradientPaint(
+                    x, y, BALL_COLOR_INNER,
+                    x + size, y + size, BALL_COLOR_OUTER);
+            g2d.setPaint(gradient);
+        } else {
+            g2d.setColor(BALL_COLOR_OUTER);
+        }
+        g2d.fillOval(x, y, size, size);
 
         // Gambar highlight (lingkaran putih kecil untuk efek kilau)
-        g2d.setColor(new Color(255, 255, 255, 180));
-        g2d.fillOval(posX + 4, posY + 3, 6, 6);
-    }
-
-    public void reverseX() {
-        dirX = -dirX;
-    }
-
-    public void reverseY() {
-        dirY = -dirY;
-    }
-
-    public int getX() {
-        return posX;
-    }
-
-    public int getY() {
-        return posY;
-    }
-
-    public double getDirX() {
-        return dirX;
-    }
-
-    public double getDirY() {
-        return dirY;
-    }
-
-    public int getSize() {
-        return size;
-    }
-
-    public void setX(int x) {
-        this.posX = x;
-    }
-
-    public void setY(int y) {
-        this.posY = y;
-    }
-
-    public void setDirX(double dx) {
-        this.dirX = dx;
-    }
-
-    public void setDirY(double dy) {
-        this.dirY = dy;
-    }
-
-    public Rectangle getRect() {
-        return new Rectangle(posX, posY, size, size);
+        if (quality.hasHighlights()) {
+            g2d.setColor(HIGHLIGHT_COLOR);
+            g2d.fillOval(x + 4, y + 3, 6, 6);
+        }
     }
 
     /**
-     * Membuat salinan bola ini dengan arah yang sedikit berbeda (untuk multi-bola)
+     * Komponen x arah setelah diperlambat, dengan kecepatan minimum 1.5
      */
-    public Ball clone(double angleOffset) {
-        double newDirX = dirX + angleOffset;
-        double newDirY = dirY;
-        return new Ball(posX, posY, newDirX, newDirY);
+    public static double slowDirX(double dirX) {
+        dirX *= 0.7;
+        // Pastikan kecepatan minimum
+        if (Math.abs(dirX) < 1.5)
+            dirX = dirX > 0 ? 1.5 : -1.5;
+        return dirX;
     }
 
     /**
-     * Memperlambat kecepatan bola
+     * Komponen y arah setelah diperlambat, dengan kecepatan minimum 2.0
      */
-    public void slowDown() {
-        dirX *= 0.7;
+    public static double slowDirY(double dirY) {
         dirY *= 0.7;
         // Pastikan kecepatan minimum
-        if (Math.abs(dirX) < 1.5)
-            dirX = dirX > 0 ? 1.5 : -1.5;
         if (Math.abs(dirY) < 2.0)
             dirY = dirY > 0 ? 2.0 : -2.0;
+        return dirY;
     }
 
     /**
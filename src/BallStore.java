@@ -0,0 +1,169 @@
+import java.util.Arrays;
+
+/**
+ * Penyimpanan semua bola dalam bentuk struct-of-arrays: posisi dan arah
+ * disimpan di array double paralel, bukan sebagai objek per bola.
+ * Dengan begitu puluhan ribu bola dapat diperbarui setiap tick tanpa
+ * alokasi objek. Bola dihapus dengan swap-remove (bola terakhir dipindah ke
+ * slot yang kosong), sehingga urutan bola dapat berubah setelah penghapusan.
+ *
+ * Operasi per bola (reverseX, clone, ...) menerima indeks bola.
+ */
+public class BallStore {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private double[] x = new double[INITIAL_CAPACITY];
+    private double[] y = new double[INITIAL_CAPACITY];
+    private double[] prevX = new double[INITIAL_CAPACITY];
+    private double[] prevY = new double[INITIAL_CAPACITY];
+    private double[] dirX = new double[INITIAL_CAPACITY];
+    private double[] dirY = new double[INITIAL_CAPACITY];
+    private int count = 0;
+
+    /**
+     * Menambah bola baru dan mengembalikan indeksnya
+     */
+    public int add(int startX, int startY, double startDirX, double startDirY) {
+        if (count == x.length) {
+            grow();
+        }
+        int i = count++;
+        x[i] = startX;
+        y[i] = startY;
+        prevX[i] = startX;
+        prevY[i] = startY;
+        dirX[i] = startDirX;
+        dirY[i] = startDirY;
+        return i;
+    }
+
+    /**
+     * Menghapus bola dengan memindahkan bola terakhir ke slotnya
+     */
+    public void remove(int i) {
+        int last = --count;
+        if (i != last) {
+            x[i] = x[last];
+            y[i] = y[last];
+            prevX[i] = prevX[last];
+            prevY[i] = prevY[last];
+            dirX[i] = dirX[last];
+            dirY[i] = dirY[last];
+        }
+    }
+
+    public void clear() {
+        count = 0;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    private void grow() {
+        int capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        prevX = Arrays.copyOf(prevX, capacity);
+        prevY = Arrays.copyOf(prevY, capacity);
+        dirX = Arrays.copyOf(dirX, capacity);
+        dirY = Arrays.copyOf(dirY, capacity);
+    }
+
+    /**
+     * Menyimpan posisi semua bola sebagai posisi tick sebelumnya (untuk interpolasi)
+     */
+    public void savePrevious() {
+        System.arraycopy(x, 0, prevX, 0, count);
+        System.arraycopy(y, 0, prevY, 0, count);
+    }
+
+    public void reverseX(int i) {
+        dirX[i] = -dirX[i];
+    }
+
+    public void reverseY(int i) {
+        dirY[i] = -dirY[i];
+    }
+
+    /**
+     * Menambah salinan bola i dengan arah yang sedikit berbeda (untuk multi-bola)
+     */
+    public int clone(int i, double angleOffset) {
+        return add((int) x[i], (int) y[i], dirX[i] + angleOffset, dirY[i]);
+    }
+
+    /**
+     * Memperlambat kecepatan semua bola
+     */
+    public void slowDownAll() {
+        for (int i = 0; i < count; i++) {
+            dirX[i] = Ball.slowDirX(dirX[i]);
+            dirY[i] = Ball.slowDirY(dirY[i]);
+        }
+    }
+
+    public int getX(int i) {
+        return (int) x[i];
+    }
+
+    public int getY(int i) {
+        return (int) y[i];
+    }
+
+    /**
+     * Posisi x presisi penuh (tanpa pembulatan ke int)
+     */
+    public double getPosX(int i) {
+        return x[i];
+    }
+
+    public double getPosY(int i) {
+        return y[i];
+    }
+
+    public void setPos(int i, double posX, double posY) {
+        x[i] = posX;
+        y[i] = posY;
+    }
+
+    public int getPrevX(int i) {
+        return (int) prevX[i];
+    }
+
+    public int getPrevY(int i) {
+        return (int) prevY[i];
+    }
+
+    public double getDirX(int i) {
+        return dirX[i];
+    }
+
+    public double getDirY(int i) {
+        return dirY[i];
+    }
+
+    public int getSize() {
+        return Ball.SIZE;
+    }
+
+    public void setX(int i, int value) {
+        x[i] = value;
+    }
+
+    public void setY(int i, int value) {
+        y[i] = value;
+    }
+
+    public void setDirX(int i, double value) {
+        dirX[i] = value;
+    }
+
+    public void setDirY(int i, double value) {
+        dirY[i] = value;
+    }
+}
@@ -0,0 +1,443 @@
+import java.util.Arrays;
+
+/**
+ * Memproses gerakan dan tabrakan bola untuk satu tick: tabrakan dengan
+ * paddle dan brick, lalu gerakan swept terhadap dinding, paddle, dan brick.
+ *
+ * Skor dan power-up yang muncul dari brick yang dipukul tidak langsung
+ * diterapkan ke GameWorld, tetapi dikumpulkan di updater ini lalu digabung
+ * oleh GameWorld setelah semua bola diproses. Dengan begitu beberapa updater
+ * dapat berjalan paralel pada rentang bola yang berbeda. Dalam mode
+ * concurrent, brick dipukul lewat MapGenerator.hitBrickConcurrent (CAS)
+ * sehingga dua bola yang memukul brick yang sama pada tick yang sama
+ * masing-masing mengurangi brick tepat satu kali.
+ */
+public class BallUpdater {
+    // Swept collision: batas pantulan per tick dan jarak bola dari dinding
+    private static final int MAX_BOUNCES = 4;
+    private static final int WALL = 5;
+    private static final int AXIS_X = 0;
+    private static final int AXIS_Y = 1;
+    private static final int HIT_NONE = 0;
+    private static final int HIT_WALL = 1;
+    private static final int HIT_PADDLE = 2;
+    private static final int HIT_BRICK = 3;
+
+    private final BallStore balls;
+    private Paddle paddle;
+    private MapGenerator map;
+    private int level;
+    private int fieldWidth;
+    private double dt;
+    private boolean concurrent;
+
+    // Hasil yang dikumpulkan selama tick dan digabung oleh GameWorld
+    private int score;
+    private int hits;
+    private int destroyed;
+    private int spawnCount;
+    private int[] spawnX = new int[8];
+    private int[] spawnY = new int[8];
+
+    // Waktu setiap fase yang dijumlahkan dari semua bola selama tick, hanya
+    // diukur jika timed (event fase tick JFR sedang direkam)
+    private boolean timed;
+    private long paddleNanos;
+    private long brickNanos;
+    private long moveNanos;
+
+    // Hasil sementara swept collision (disimpan di field agar tanpa alokasi)
+    private double sweepTime;
+    private int sweepAxis;
+    private double sweepContact;
+    private double hitTime;
+    private int hitAxis;
+    private double hitContact;
+    private int hitKind;
+    private int hitCell;
+
+    public BallUpdater(BallStore balls) {
+        this.balls = balls;
+    }
+
+    /**
+     * Menyiapkan updater untuk tick baru dan mengosongkan hasil tick sebelumnya
+     *
+     * @param fieldWidth Lebar field (posisi dinding kanan)
+     * @param dt         Panjang tick dalam tick acuan (lihat GameWorld.step)
+     * @param concurrent true jika updater lain memproses bola lain secara
+     *                   bersamaan pada map yang sama
+     * @param timed      true jika waktu tabrakan paddle, tabrakan brick, dan
+     *                   gerakan swept dijumlahkan per fase
+     */
+    public void begin(Paddle paddle, MapGenerator map, int level, int fieldWidth, double dt, boolean concurrent,
+            boolean timed) {
+        this.paddle = paddle;
+        this.map = map;
+        this.level = level;
+        this.fieldWidth = fieldWidth;
+        this.dt = dt;
+        this.concurrent = concurrent;
+        this.timed = timed;
+        score = 0;
+        hits = 0;
+        destroyed = 0;
+        spawnCount = 0;
+        paddleNanos = 0;
+        brickNanos = 0;
+        moveNanos = 0;
+    }
+
+    /**
+     * Memproses satu bola untuk satu tick
+     */
+    public void update(int b) {
+        int size = balls.getSize();
+        if (!timed) {
+            collidePaddle(b, size);
+            collideBricks(b, size);
+            moveSwept(b, size);
+            return;
+        }
+
+        long start = System.nanoTime();
+        collidePaddle(b, size);
+        long paddleDone = System.nanoTime();
+        collideBricks(b, size);
+        long bricksDone = System.nanoTime();
+        moveSwept(b, size);
+        long end = System.nanoTime();
+        paddleNanos += paddleDone - start;
+        brickNanos += bricksDone - paddleDone;
+        moveNanos += end - bricksDone;
+    }
+
+    /**
+     * Tabrakan bola dengan paddle yang sudah beririsan di awal tick
+     */
+    private void collidePaddle(int b, int size) {
+        if (GameWorld.intersects(balls.getX(b), balls.getY(b), size, size,
+                paddle.getX(), paddle.getY(), paddle.getWidth(), paddle.getHeight())) {
+            balls.reverseY(b);
+            // Sesuaikan arah berdasarkan posisi hit di paddle
+            int paddleCenter = paddle.getX() + paddle.getWidth() / 2;
+            int ballCenter = balls.getX(b) + size / 2;
+            double diff = (ballCenter - paddleCenter) / 10.0;
+            balls.setDirX(b, balls.getDirX(b) + diff);
+            // Jaga bola tetap di atas paddle
+            balls.setY(b, paddle.getY() - size);
+        }
+    }
+
+    /**
+     * Tabrakan bola dengan brick yang sudah beririsan di awal tick (hanya sel
+     * grid di sekitar bola yang diperiksa)
+     */
+    private void collideBricks(int b, int size) {
+        int cell = map.findCollision(balls.getX(b), balls.getY(b), size, size);
+        if (cell >= 0) {
+            int i = cell / map.getCols();
+            int j = cell % map.getCols();
+            int brickX = map.getBrickX(j);
+            int brickWidth = map.getBrickWidth();
+
+            // Tentukan arah tabrakan; bola tidak memantul jika brick sudah
+            // dihancurkan bola lain pada tick ini
+            if (hitBrickAt(i, j)) {
+                if (balls.getX(b) + size - 2 <= brickX ||
+                        balls.getX(b) + 2 >= brickX + brickWidth) {
+                    balls.reverseX(b);
+                } else {
+                    balls.reverseY(b);
+                }
+            }
+        }
+    }
+
+    /**
+     * Menggerakkan bola sejauh kecepatannya dikali dt. Lintasan bola
+     * diuji terhadap dinding, paddle, dan brick secara kontinu (swept AABB):
+     * bola berhenti tepat di titik tabrakan paling awal, memantul, lalu
+     * melanjutkan sisa gerakannya. Dengan begitu bola secepat apa pun tidak
+     * dapat menembus brick tipis atau paddle.
+     */
+    private void moveSwept(int b, int size) {
+        // Sisa gerakan dalam tick acuan
+        double remaining = dt;
+        for (int bounce = 0; bounce < MAX_BOUNCES && remaining > 0; bounce++) {
+            double x = balls.getPosX(b);
+            double y = balls.getPosY(b);
+            // Kecepatan efektif per tick sama seperti Ball.move (dibulatkan ke int)
+            double dx = (int) balls.getDirX(b) * remaining;
+            double dy = (int) balls.getDirY(b) * remaining;
+            if (dx == 0 && dy == 0) {
+                return;
+            }
+
+            hitTime = 1.0;
+            hitKind = HIT_NONE;
+
+            // Dinding kiri, atas, dan kanan
+            if (dx < 0 && x + dx < WALL) {
+                recordHit((WALL - x) / dx, AXIS_X, WALL, HIT_WALL, -1);
+            }
+            if (dx > 0 && x + dx > fieldWidth - size - WALL) {
+                recordHit((fieldWidth - size - WALL - x) / dx, AXIS_X, fieldWidth - size - WALL, HIT_WALL, -1);
+            }
+            if (dy < 0 && y + dy < WALL) {
+                recordHit((WALL - y) / dy, AXIS_Y, WALL, HIT_WALL, -1);
+            }
+
+            // Paddle
+            if (sweep(x, y, dx, dy, size, paddle.getX(), paddle.getY(), paddle.getWidth(), paddle.getHeight())) {
+                recordHit(sweepTime, sweepAxis, sweepContact, HIT_PADDLE, -1);
+            }
+
+            // Brick pada sel grid yang dilewati lintasan bola
+            sweepBricks(x, y, dx, dy, size);
+
+            // Maju sampai titik tabrakan (atau sampai akhir gerakan); pada sumbu
+            // tabrakan, posisi diset tepat di permukaan agar tidak ada galat pembulatan
+            double newX = x + dx * hitTime;
+            double newY = y + dy * hitTime;
+            if (hitKind != HIT_NONE) {
+                if (hitAxis == AXIS_X) {
+                    newX = hitContact;
+                } else {
+                    newY = hitContact;
+                }
+            }
+            balls.setPos(b, newX, newY);
+            remaining *= 1.0 - hitTime;
+
+            switch (hitKind) {
+                case HIT_NONE:
+                    return;
+                case HIT_BRICK:
+                    // Jika brick sudah hancur oleh bola lain, bola meneruskan
+                    // sisa gerakannya dari titik kontak tanpa memantul
+                    if (hitBrickAt(hitCell / map.getCols(), hitCell % map.getCols())) {
+                        reflect(b, hitAxis);
+                    }
+                    break;
+                case HIT_PADDLE:
+                    if (hitAxis == AXIS_Y && dy > 0) {
+                        balls.reverseY(b);
+                        // Sesuaikan arah berdasarkan posisi hit di paddle
+                        int paddleCenter = paddle.getX() + paddle.getWidth() / 2;
+                        int ballCenter = balls.getX(b) + size / 2;
+                        double diff = (ballCenter - paddleCenter) / 10.0;
+                        balls.setDirX(b, balls.getDirX(b) + diff);
+                    } else {
+                        reflect(b, hitAxis);
+                    }
+                    break;
+                default:
+                    reflect(b, hitAxis);
+                    break;
+            }
+        }
+    }
+
+    private void sweepBricks(double x, double y, double dx, double dy, int size) {
+        int brickWidth = map.getBrickWidth();
+        int brickHeight = map.getBrickHeight();
+
+        // Kotak pembatas lintasan, dikonversi ke rentang sel grid
+        double minX = Math.min(x, x + dx);
+        double maxX = Math.max(x, x + dx) + size;
+        double minY = Math.min(y, y + dy);
+        double maxY = Math.max(y, y + dy) + size;
+        int firstCol = Math.max(0, (int) Math.floor((minX - MapGenerator.OFFSET_X) / brickWidth));
+        int lastCol = Math.min(map.getCols() - 1, (int) Math.floor((maxX - MapGenerator.OFFSET_X) / brickWidth));
+        int firstRow = Math.max(0, (int) Math.floor((minY - map.getOriginY()) / brickHeight));
+        int lastRow = Math.min(map.getRows() - 1, (int) Math.floor((maxY - map.getOriginY()) / brickHeight));
+
+        for (int i = firstRow; i <= lastRow; i++) {
+            for (int j = map.nextBrick(i, firstCol, lastCol); j >= 0; j = map.nextBrick(i, j + 1, lastCol)) {
+                if (sweep(x, y, dx, dy, size, map.getBrickX(j), map.getBrickY(i), brickWidth, brickHeight)) {
+                    recordHit(sweepTime, sweepAxis, sweepContact, HIT_BRICK, i * map.getCols() + j);
+                }
+            }
+        }
+    }
+
+    /**
+     * Swept AABB: menghitung waktu (0..1) saat kotak bola yang bergerak
+     * sejauh (dx, dy) pertama kali menyentuh kotak diam. Hasilnya disimpan di
+     * sweepTime, sweepAxis (sumbu permukaan yang tertabrak), dan sweepContact
+     * (posisi bola pada sumbu tersebut saat menyentuh).
+     *
+     * @return true jika tabrakan terjadi dalam gerakan ini
+     */
+    private boolean sweep(double x, double y, double dx, double dy, int size,
+            double boxX, double boxY, double boxWidth, double boxHeight) {
+        double entryX, exitX, entryY, exitY;
+
+        if (dx > 0) {
+            entryX = (boxX - (x + size)) / dx;
+            exitX = (boxX + boxWidth - x) / dx;
+        } else if (dx < 0) {
+            entryX = (boxX + boxWidth - x) / dx;
+            exitX = (boxX - (x + size)) / dx;
+        } else {
+            if (x + size <= boxX || x >= boxX + boxWidth) {
+                return false;
+            }
+            entryX = Double.NEGATIVE_INFINITY;
+            exitX = Double.POSITIVE_INFINITY;
+        }
+
+        if (dy > 0) {
+            entryY = (boxY - (y + size)) / dy;
+            exitY = (boxY + boxHeight - y) / dy;
+        } else if (dy < 0) {
+            entryY = (boxY + boxHeight - y) / dy;
+            exitY = (boxY - (y + size)) / dy;
+        } else {
+            if (y + size <= boxY || y >= boxY + boxHeight) {
+                return false;
+            }
+            entryY = Double.NEGATIVE_INFINITY;
+            exitY = Double.POSITIVE_INFINITY;
+        }
+
+        double entry = Math.max(entryX, entryY);
+        double exit = Math.min(exitX, exitY);
+        // entry < 0 berarti sudah beririsan sejak awal; ditangani uji diskrit
+        if (entry > exit || entry < 0 || entry > 1) {
+            return false;
+        }
+        sweepTime = entry;
+        if (entryX > entryY) {
+            sweepAxis = AXIS_X;
+            sweepContact = dx > 0 ? boxX - size : boxX + boxWidth;
+        } else {
+            sweepAxis = AXIS_Y;
+            sweepContact = dy > 0 ? boxY - size : boxY + boxHeight;
+        }
+        return true;
+    }
+
+    /**
+     * Menyimpan tabrakan jika terjadi lebih awal dari tabrakan yang sudah ditemukan
+     */
+    private void recordHit(double time, int axis, double contact, int kind, int cell) {
+        if (time < hitTime || (hitKind == HIT_NONE && time <= hitTime)) {
+            hitTime = Math.max(0, time);
+            hitAxis = axis;
+            hitContact = contact;
+            hitKind = kind;
+            hitCell = cell;
+        }
+    }
+
+    private void reflect(int b, int axis) {
+        if (axis == AXIS_X) {
+            balls.reverseX(b);
+        } else {
+            balls.reverseY(b);
+        }
+    }
+
+    /**
+     * Memukul brick pada sel tertentu dan mencatat skor serta power-up yang
+     * harus dijatuhkan
+     *
+     * @return false jika brick sudah dihancurkan bola lain pada tick ini
+     *         (hanya mungkin dalam mode concurrent)
+     */
+    private boolean hitBrickAt(int row, int col) {
+        boolean dropPowerUp;
+        int points;
+        if (concurrent) {
+            int previous = map.hitBrickConcurrent(row, col);
+            if (previous == 0) {
+                // Sudah dihancurkan bola lain pada tick ini
+                return false;
+            }
+            hits++;
+            if (previous != 3) {
+                destroyed++;
+            }
+            dropPowerUp = previous == 2;
+            points = previous == 3 ? 5 : 10;
+            GameEvents.brickHit(row, col, previous, previous != 3);
+        } else {
+            dropPowerUp = map.hitBrick(row, col);
+            boolean brickDestroyed = map.getBrickValue(row, col) == 0;
+            points = brickDestroyed ? 10 : 5; // Poin parsial untuk brick kuat
+            GameEvents.brickHit(row, col, brickDestroyed ? (dropPowerUp ? 2 : 1) : 3, brickDestroyed);
+        }
+        score += points * level;
+
+        if (dropPowerUp) {
+            if (spawnCount == spawnX.length) {
+                spawnX = Arrays.copyOf(spawnX, spawnCount * 2);
+                spawnY = Arrays.copyOf(spawnY, spawnCount * 2);
+            }
+            spawnX[spawnCount] = map.getBrickX(col) + map.getBrickWidth() / 2 - 15;
+            spawnY[spawnCount] = map.getBrickY(row);
+            spawnCount++;
+        }
+        return true;
+    }
+
+    /**
+     * Skor yang didapat selama tick ini
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Jumlah pukulan lewat hitBrickConcurrent (0 jika tidak concurrent)
+     */
+    public int getHits() {
+        return hits;
+    }
+
+    /**
+     * Jumlah brick yang hancur lewat hitBrickConcurrent (0 jika tidak concurrent)
+     */
+    public int getDestroyed() {
+        return destroyed;
+    }
+
+    /**
+     * Jumlah power-up yang harus dijatuhkan
+     */
+    public int getSpawnCount() {
+        return spawnCount;
+    }
+
+    public int getSpawnX(int i) {
+        return spawnX[i];
+    }
+
+    public int getSpawnY(int i) {
+        return spawnY[i];
+    }
+
+    /**
+     * Waktu tabrakan paddle selama tick ini dalam nanodetik (0 jika tidak timed)
+     */
+    public long getPaddleNanos() {
+        return paddleNanos;
+    }
+
+    /**
+     * Waktu tabrakan brick selama tick ini dalam nanodetik (0 jika tidak timed)
+     */
+    public long getBrickNanos() {
+        return brickNanos;
+    }
+
+    /**
+     * Waktu gerakan swept (dinding, serta paddle dan brick di lintasan) selama
+     * tick ini dalam nanodetik (0 jika tidak timed)
+     */
+    public long getMoveNanos() {
+        return moveNanos;
+    }
+}
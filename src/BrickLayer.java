@@ -0,0 +1,179 @@
+import java.awt.AlphaComposite;
+import java.awt.Composite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+/**
+ * Layer off-screen yang menyimpan gambar field brick yang disalin ke
+ * snapshot (untuk map yang lebar, hanya kolom di sekitar layar).
+ * Layer hanya diperbarui jika versi map di snapshot berubah (yaitu setelah
+ * hitBrick atau setBrickValue), dan hanya sel yang nilainya berbeda yang
+ * digambar ulang. Jika jendela kolom bergeser karena kamera bergulir, layer
+ * digambar ulang seluruhnya; biayanya sebanding dengan luas layar, bukan
+ * dengan ukuran map. Pada mode endless, pergeseran per piksel hanya
+ * mengubah posisi blit; layer digambar ulang saat baris baru masuk.
+ * Setiap frame cukup mem-blit satu image.
+ *
+ * Untuk level berikutnya, LevelPreloader menggambar layer baru di thread
+ * latar belakang (lihat prebuild); renderer mengambil alih layer tersebut
+ * saat level berganti sehingga frame pergantian tidak menggambar ulang
+ * seluruh field.
+ */
+public class BrickLayer {
+    // Posisi kiri field brick di layar
+    private static final int ORIGIN_X = MapGenerator.OFFSET_X;
+    private static final int PADDING = BrickSprites.PADDING;
+
+    private BufferedImage image;
+    private int rows;
+    private int cols;
+    private int firstCol;
+    private int brickWidth;
+    private int brickHeight;
+    private int originY = MapGenerator.OFFSET_Y;
+    private int rowsAdvanced;
+    private long version = -1;
+    private byte[] drawnCells = new byte[0];
+
+    /**
+     * Menggambar layer untuk map yang belum dimainkan, pada jendela kolom
+     * yang terlihat saat paddle di posisi awal. Aman dipanggil dari thread
+     * latar belakang selama map belum dipakai thread lain.
+     */
+    static BrickLayer prebuild(MapGenerator map, BrickSprites sprites) {
+        int center = Paddle.START_X + Paddle.DEFAULT_WIDTH / 2;
+        int brickWidth = map.getBrickWidth();
+        int firstCol = FrameSnapshot.firstVisibleCol(center, brickWidth);
+        int cols = FrameSnapshot.visibleCols(center, map.getCols(), brickWidth);
+        byte[] cells = new byte[map.getRows() * cols];
+        map.copyCells(cells, firstCol, cols);
+
+        BrickLayer layer = new BrickLayer();
+        layer.originY = map.getOriginY();
+        layer.rebuild(map.getRows(), cols, firstCol, brickWidth, map.getBrickHeight(), map.getRowsAdvanced(),
+                cells, sprites);
+        layer.version = map.getVersion();
+        return layer;
+    }
+
+    /**
+     * Menyamakan isi layer dengan brick di snapshot
+     */
+    public void update(FrameSnapshot frame) {
+        originY = frame.brickOriginY;
+        if (frame.brickVersion == version && frame.brickFirstCol == firstCol && frame.brickCols == cols) {
+            return;
+        }
+
+        if (image == null || frame.rows != rows || frame.brickCols != cols || frame.brickFirstCol != firstCol
+                || frame.brickWidth != brickWidth || frame.brickHeight != brickHeight
+                || frame.brickRowsAdvanced != rowsAdvanced) {
+            rebuild(frame.rows, frame.brickCols, frame.brickFirstCol, frame.brickWidth, frame.brickHeight,
+                    frame.brickRowsAdvanced, frame.bricks, BrickSprites.forSize(frame.brickWidth, frame.brickHeight));
+        } else {
+            patch(frame);
+        }
+        version = frame.brickVersion;
+    }
+
+    /**
+     * Mem-blit layer ke posisinya di field
+     */
+    public void draw(Graphics2D g) {
+        if (image != null) {
+            g.drawImage(image, ORIGIN_X + firstCol * brickWidth - PADDING, originY - PADDING, null);
+        }
+    }
+
+    private void rebuild(int rows, int cols, int firstCol, int brickWidth, int brickHeight, int rowsAdvanced,
+            byte[] cells, BrickSprites sprites) {
+        this.rows = rows;
+        this.cols = cols;
+        this.firstCol = firstCol;
+        this.brickWidth = brickWidth;
+        this.brickHeight = brickHeight;
+        this.rowsAdvanced = rowsAdvanced;
+        int width = Math.max(1, cols * brickWidth + PADDING * 2);
+        int height = Math.max(1, rows * brickHeight + PADDING * 2);
+        boolean reuse = image != null && image.getWidth() == width && image.getHeight() == height;
+        if (!reuse) {
+            image = BrickSprites.createImage(width, height);
+        }
+        if (drawnCells.length < rows * cols) {
+            drawnCells = new byte[rows * cols];
+        }
+
+        Graphics2D g = image.createGraphics();
+        try {
+            if (reuse) {
+                // Jendela kolom atau baris bergeser: kosongkan image lama
+                g.setComposite(AlphaComposite.Clear);
+                g.fillRect(0, 0, width, height);
+                g.setComposite(AlphaComposite.SrcOver);
+            }
+            for (int i = 0; i < rows; i++) {
+                int color = MapGenerator.colorRow(i, rowsAdvanced);
+                for (int j = 0; j < cols; j++) {
+                    byte value = cells[i * cols + j];
+                    drawnCells[i * cols + j] = value;
+                    if (value > 0) {
+                        g.drawImage(sprites.get(value, color), j * brickWidth, i * brickHeight, null);
+                    }
+                }
+            }
+        } finally {
+            g.dispose();
+        }
+    }
+
+    private void patch(FrameSnapshot frame) {
+        BrickSprites sprites = BrickSprites.forSize(brickWidth, brickHeight);
+        Graphics2D g = null;
+        try {
+            for (int i = 0; i < rows; i++) {
+                for (int j = 0; j < cols; j++) {
+                    int index = i * cols + j;
+                    if (drawnCells[index] == frame.bricks[index]) {
+                        continue;
+                    }
+                    if (g == null) {
+                        g = image.createGraphics();
+                    }
+                    repaintCell(g, sprites, frame.bricks, i, j);
+                    drawnCells[index] = frame.bricks[index];
+                }
+            }
+        } finally {
+            if (g != null) {
+                g.dispose();
+            }
+        }
+    }
+
+    /**
+     * Menghapus area sel (termasuk padding) lalu menggambar ulang sel tersebut
+     * beserta tetangganya yang ikut menyentuh area itu
+     */
+    private void repaintCell(Graphics2D g, BrickSprites sprites, byte[] cells, int row, int col) {
+        int x = col * brickWidth;
+        int y = row * brickHeight;
+        int width = brickWidth + PADDING * 2;
+        int height = brickHeight + PADDING * 2;
+
+        g.setClip(x, y, width, height);
+        Composite composite = g.getComposite();
+        g.setComposite(AlphaComposite.Clear);
+        g.fillRect(x, y, width, height);
+        g.setComposite(composite);
+
+        for (int i = Math.max(0, row - 1); i <= Math.min(rows - 1, row + 1); i++) {
+            for (int j = Math.max(0, col - 1); j <= Math.min(cols - 1, col + 1); j++) {
+                int value = cells[i * cols + j];
+                if (value > 0) {
+                    g.drawImage(sprites.get(value, MapGenerator.colorRow(i, rowsAdvanced)), j * brickWidth,
+                            i * brickHeight, null);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+/**
+ * Cache gambar brick yang sudah dirender sebelumnya untuk satu ukuran brick.
+ * Setiap varian (7 warna pelangi, brick power-up, brick kuat) digambar sekali
+ * ke image yang kompatibel dengan layar, lalu BrickLayer cukup mem-blit
+ * image tersebut setiap frame tanpa membuat GradientPaint, Color, Stroke,
+ * atau Font baru.
+ *
+ * Cache hanya dibuat ulang jika brickWidth/brickHeight berubah. Cache untuk
+ * ukuran level berikutnya dapat disiapkan lebih dulu lewat prepare, sehingga
+ * pergantian level tidak perlu merender sprite di thread render.
+ */
+public final class BrickSprites {
+    // Indeks varian: 0-6 = baris pelangi, 7 = power-up, 8 = kuat
+    private static final int RAINBOW_COUNT = 7;
+    private static final int POWERUP_INDEX = 7;
+    private static final int STRONG_INDEX = 8;
+
+    // Ruang ekstra di sekeliling brick agar tepi antialiasing tidak terpotong
+    static final int PADDING = 1;
+
+    private static volatile BrickSprites current;
+    private static volatile BrickSprites prepared;
+
+    private final int brickWidth;
+    private final int brickHeight;
+    private final BufferedImage[] sprites = new BufferedImage[RAINBOW_COUNT + 2];
+
+    private BrickSprites(int brickWidth, int brickHeight) {
+        this.brickWidth = brickWidth;
+        this.brickHeight = brickHeight;
+
+        for (int i = 0; i < RAINBOW_COUNT; i++) {
+            sprites[i] = render(1, i);
+        }
+        sprites[POWERUP_INDEX] = render(2, 0);
+        sprites[STRONG_INDEX] = render(3, 0);
+    }
+
+    /**
+     * Mengambil cache sprite untuk ukuran brick tertentu, membuat ulang hanya
+     * jika ukurannya berbeda dari cache sebelumnya
+     */
+    public static BrickSprites forSize(int brickWidth, int brickHeight) {
+        BrickSprites sprites = current;
+        if (sprites == null || !sprites.matches(brickWidth, brickHeight)) {
+            sprites = prepared;
+            if (sprites == null || !sprites.matches(brickWidth, brickHeight)) {
+                sprites = new BrickSprites(brickWidth, brickHeight);
+            }
+            current = sprites;
+        }
+        return sprites;
+    }
+
+    /**
+     * Merender cache sprite untuk ukuran brick tertentu tanpa menggantikan
+     * cache yang sedang dipakai; forSize akan memakainya saat ukuran tersebut
+     * diminta. Aman dipanggil dari thread latar belakang.
+     *
+     * @return Cache untuk ukuran tersebut (boleh dipakai dari thread mana pun)
+     */
+    public static BrickSprites prepare(int brickWidth, int brickHeight) {
+        BrickSprites sprites = current;
+        if (sprites != null && sprites.matches(brickWidth, brickHeight)) {
+            return sprites;
+        }
+        sprites = prepared;
+        if (sprites == null || !sprites.matches(brickWidth, brickHeight)) {
+            sprites = new BrickSprites(brickWidth, brickHeight);
+            prepared = sprites;
+        }
+        return sprites;
+    }
+
+    private boolean matches(int width, int height) {
+        return brickWidth == width && brickHeight == height;
+    }
+
+    /**
+     * Image untuk brick dengan nilai dan baris tertentu (nilai harus > 0)
+     */
+    public BufferedImage get(int value, int row) {
+        if (value == 3) {
+            return sprites[STRONG_INDEX];
+        } else if (value == 2) {
+            return sprites[POWERUP_INDEX];
+        }
+        return sprites[row % RAINBOW_COUNT];
+    }
+
+    private BufferedImage render(int value, int row) {
+        int width = brickWidth + PADDING * 2;
+        int height = brickHeight + PADDING * 2;
+        BufferedImage image = createImage(width, height);
+
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            MapGenerator.paintBrick(g, value, row, PADDING, PADDING, brickWidth, brickHeight);
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+    /**
+     * Membuat image transparan yang kompatibel dengan layar agar blit bisa
+     * diakselerasi; di mode headless memakai BufferedImage ARGB biasa
+     */
+    static BufferedImage createImage(int width, int height) {
+        return createImage(width, height, Transparency.TRANSLUCENT);
+    }
+
+    /**
+     * Seperti createImage(width, height), dengan transparansi tertentu;
+     * Transparency.OPAQUE untuk layer yang selalu menutupi seluruh area
+     */
+    static BufferedImage createImage(int width, int height, int transparency) {
+        if (!GraphicsEnvironment.isHeadless()) {
+            GraphicsConfiguration config = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                    .getDefaultScreenDevice().getDefaultConfiguration();
+            return config.createCompatibleImage(width, height, transparency);
+        }
+        return new BufferedImage(width, height, transparency == Transparency.OPAQUE
+                ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB_PRE);
+    }
+}
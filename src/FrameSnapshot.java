@@ -0,0 +1,195 @@
+import java.awt.Color;
+import java.util.ArrayList;
+
+/**
+ * Salinan state game untuk satu frame, berisi semua data yang dibutuhkan
+ * renderer. Diisi oleh thread simulasi lalu diserahkan ke renderer lewat
+ * SnapshotBuffer; setelah dipublikasikan, isinya tidak diubah lagi sampai
+ * buffer tersebut dikembalikan ke penulis.
+ *
+ * Array-array di dalamnya dipakai ulang antar frame dan hanya diperbesar
+ * jika jumlah bola/power-up/brick melebihi kapasitas. Untuk map yang lebih
+ * lebar dari layar, hanya kolom brick di sekitar layar yang disalin.
+ */
+public class FrameSnapshot {
+    // Nomor urut snapshot, bertambah setiap kali dipublikasikan
+    long sequence = -1;
+
+    // Waktu (System.nanoTime) tick terakhir jatuh tempo dan panjang satu tick
+    long tickTime;
+    long tickNanos;
+
+    // Waktu tombol yang hasilnya termuat di snapshot ini dan belum
+    // dikonfirmasi tampil (0 = tidak ada); lihat LatencyTracer
+    long inputTime;
+
+    // State game dan HUD
+    GameState gameState = GameState.START;
+    int score;
+    int lives;
+    int level;
+    String powerUpMessage = "";
+    int messageTimer;
+    int fieldWidth = GameWorld.WIDTH;
+
+    // Paddle
+    int paddlePrevX;
+    int paddleX;
+    int paddleY;
+    int paddleWidth;
+    int paddleHeight;
+    Color paddleColorTop;
+    Color paddleColorBottom;
+
+    // Bola
+    int ballCount;
+    int ballSize;
+    int[] ballPrevX = new int[16];
+    int[] ballPrevY = new int[16];
+    int[] ballX = new int[16];
+    int[] ballY = new int[16];
+
+    // Power-up
+    int powerUpCount;
+    int[] powerUpX = new int[8];
+    int[] powerUpPrevY = new int[8];
+    int[] powerUpY = new int[8];
+    int[] powerUpWidth = new int[8];
+    int[] powerUpHeight = new int[8];
+    PowerUpType[] powerUpTypes = new PowerUpType[8];
+
+    // Brick: ukuran seluruh map, dan salinan row-major untuk kolom
+    // [brickFirstCol, brickFirstCol + brickCols) saja
+    int rows;
+    int cols;
+    int brickWidth;
+    int brickHeight;
+    int brickFirstCol;
+    int brickCols;
+    int brickOriginY = MapGenerator.OFFSET_Y;
+    int brickRowsAdvanced;
+    long brickVersion;
+    int brickCount;
+    byte[] bricks = new byte[64];
+
+    // Layer brick map ini yang sudah digambar LevelPreloader, atau null;
+    // renderer cukup mengambil alih referensinya saat level berganti
+    BrickLayer preparedBrickLayer;
+
+    /**
+     * Menyalin state world ke snapshot ini
+     */
+    void capture(GameWorld world, long tickTime, long tickNanos) {
+        this.tickTime = tickTime;
+        this.tickNanos = tickNanos;
+
+        gameState = world.getGameState();
+        score = world.getScore();
+        lives = world.getLives();
+        level = world.getLevel();
+        powerUpMessage = world.getPowerUpMessage();
+        messageTimer = world.getMessageTimer();
+        fieldWidth = world.getFieldWidth();
+
+        Paddle paddle = world.getPaddle();
+        paddlePrevX = paddle.getPrevX();
+        paddleX = paddle.getX();
+        paddleY = paddle.getY();
+        paddleWidth = paddle.getWidth();
+        paddleHeight = paddle.getHeight();
+        paddleColorTop = paddle.getColorTop();
+        paddleColorBottom = paddle.getColorBottom();
+
+        BallStore balls = world.getBalls();
+        ballCount = balls.size();
+        if (ballX.length < ballCount) {
+            int capacity = Math.max(ballCount, ballX.length * 2);
+            ballPrevX = new int[capacity];
+            ballPrevY = new int[capacity];
+            ballX = new int[capacity];
+            ballY = new int[capacity];
+        }
+        ballSize = balls.getSize();
+        for (int i = 0; i < ballCount; i++) {
+            ballPrevX[i] = balls.getPrevX(i);
+            ballPrevY[i] = balls.getPrevY(i);
+            ballX[i] = balls.getX(i);
+            ballY[i] = balls.getY(i);
+        }
+
+        ArrayList<PowerUp> powerUps = world.getPowerUps();
+        if (powerUpX.length < powerUps.size()) {
+            int capacity = Math.max(powerUps.size(), powerUpX.length * 2);
+            powerUpX = new int[capacity];
+            powerUpPrevY = new int[capacity];
+            powerUpY = new int[capacity];
+            powerUpWidth = new int[capacity];
+            powerUpHeight = new int[capacity];
+            powerUpTypes = new PowerUpType[capacity];
+        }
+        powerUpCount = 0;
+        for (int i = 0; i < powerUps.size(); i++) {
+            PowerUp pu = powerUps.get(i);
+            if (pu.isActive()) {
+                powerUpX[powerUpCount] = pu.getX();
+                powerUpPrevY[powerUpCount] = pu.getPrevY();
+                powerUpY[powerUpCount] = pu.getY();
+                powerUpWidth[powerUpCount] = pu.getWidth();
+                powerUpHeight[powerUpCount] = pu.getHeight();
+                powerUpTypes[powerUpCount] = pu.getType();
+                powerUpCount++;
+            }
+        }
+
+        MapGenerator map = world.getMap();
+        rows = map.getRows();
+        cols = map.getCols();
+        brickWidth = map.getBrickWidth();
+        brickHeight = map.getBrickHeight();
+        brickOriginY = map.getOriginY();
+        brickRowsAdvanced = map.getRowsAdvanced();
+        brickCount = map.getTotalBricks();
+        preparedBrickLayer = world.getPreparedBrickLayer();
+
+        int center = paddleX + paddleWidth / 2;
+        int firstCol = firstVisibleCol(center, brickWidth);
+        int count = visibleCols(center, cols, brickWidth);
+        if (brickVersion != map.getVersion() || brickFirstCol != firstCol || brickCols != count
+                || bricks.length < rows * count) {
+            brickVersion = map.getVersion();
+            brickFirstCol = firstCol;
+            brickCols = count;
+            if (bricks.length < rows * count) {
+                bricks = new byte[rows * count];
+            }
+            map.copyCells(bricks, firstCol, count);
+        }
+    }
+
+    /**
+     * Kolom brick pertama yang mungkin terlihat: satu lebar layar di kiri dan
+     * kanan pusat paddle, cukup untuk posisi kamera hasil interpolasi
+     */
+    static int firstVisibleCol(int center, int brickWidth) {
+        return Math.max(0, Math.floorDiv(center - GameWorld.WIDTH - MapGenerator.OFFSET_X, brickWidth));
+    }
+
+    /**
+     * Jumlah kolom brick yang mungkin terlihat mulai dari firstVisibleCol
+     */
+    static int visibleCols(int center, int cols, int brickWidth) {
+        int lastCol = Math.min(cols - 1, Math.floorDiv(center + GameWorld.WIDTH - MapGenerator.OFFSET_X, brickWidth));
+        return Math.max(0, lastCol - firstVisibleCol(center, brickWidth) + 1);
+    }
+
+    /**
+     * Faktor interpolasi untuk frame yang digambar pada waktu now
+     */
+    float alphaAt(long now) {
+        if (tickNanos <= 0) {
+            return 1f;
+        }
+        float alpha = (now - tickTime) / (float) tickNanos;
+        return Math.max(0f, Math.min(1f, alpha));
+    }
+}
@@ -0,0 +1,199 @@
+import java.awt.Canvas;
+import java.awt.Graphics2D;
+import java.awt.Toolkit;
+import java.awt.event.FocusAdapter;
+import java.awt.event.FocusEvent;
+import java.awt.event.KeyEvent;
+import java.awt.event.KeyListener;
+import java.awt.image.BufferStrategy;
+import java.util.concurrent.locks.LockSupport;
+import javax.swing.Timer;
+import javax.swing.UIManager;
+
+/**
+ * Alternatif GamePanel dengan active rendering: frame digambar oleh thread
+ * render sendiri ke BufferStrategy lalu ditampilkan langsung dengan show(),
+ * tanpa melewati repaint() dan RepaintManager Swing. Dipilih dengan
+ * -Dbrickblast.render=active.
+ *
+ * Kehilangan isi buffer (misalnya VRAM dibuang saat mode layar berubah)
+ * ditangani dengan menggambar ulang frame sesuai pola contentsRestored() /
+ * contentsLost() dari BufferStrategy.
+ *
+ * Selama layar statis tanpa input, thread render tidur sejauh laju idle
+ * (brickblast.idleFps) di antara frame; tombol membangunkannya. F3
+ * menampilkan atau menyembunyikan PerfOverlay.
+ */
+public class GameCanvas extends Canvas implements KeyListener, Runnable {
+    // Simulasi game dan renderer
+    private final GameRunner runner = new GameRunner(GameConfig.TICKS_PER_SECOND, GameConfig.MAX_STEPS_PER_FRAME);
+    private final GameRenderer renderer = new GameRenderer();
+    private SimulationThread simulationThread;
+    private Timer simulationTimer;
+
+    // Thread render, pengukuran latensi, laju idle dan overlay performa
+    private Thread renderThread;
+    private volatile boolean running = false;
+    private final LatencyTracer latency = LatencyTracer.create();
+    private final IdleMonitor idle = new IdleMonitor(GameConfig.IDLE_FPS);
+    private volatile PerfOverlay perfOverlay;
+
+    public GameCanvas() {
+        setIgnoreRepaint(true);
+        setBackground(UIManager.getColor("Panel.background"));
+        addKeyListener(this);
+        // Tanpa fokus keyReleased tidak datang; lepas semua tombol
+        addFocusListener(new FocusAdapter() {
+            @Override
+            public void focusLost(FocusEvent e) {
+                runner.releaseKeys();
+            }
+        });
+        setFocusable(true);
+        setFocusTraversalKeysEnabled(false);
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        createBufferStrategy(2);
+
+        running = true;
+        if (GameConfig.SIMULATE_ON_EDT) {
+            simulationTimer = new Timer(1, e -> runner.runFrame(System.nanoTime()));
+            simulationTimer.start();
+        } else {
+            simulationThread = new SimulationThread(runner);
+            simulationThread.start();
+        }
+        if (GameConfig.PERF_OVERLAY) {
+            togglePerfOverlay();
+        }
+        renderThread = new Thread(this, "brickblast-render");
+        renderThread.setDaemon(true);
+        renderThread.start();
+    }
+
+    @Override
+    public void removeNotify() {
+        running = false;
+        if (simulationTimer != null) {
+            simulationTimer.stop();
+        }
+        if (simulationThread != null) {
+            simulationThread.shutdown();
+        }
+        try {
+            // Tunggu frame yang sedang digambar selesai sebelum peer dilepas
+            renderThread.join(500);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        super.removeNotify();
+    }
+
+    /**
+     * Loop render: gambar dan tampilkan frame secepat mungkin, atau
+     * sesuai batas brickblast.maxFps jika diatur
+     */
+    @Override
+    public void run() {
+        BufferStrategy strategy = getBufferStrategy();
+        long frameInterval = GameConfig.MAX_FPS > 0 ? 1_000_000_000L / GameConfig.MAX_FPS : 0;
+        long nextFrame = System.nanoTime();
+
+        while (running) {
+            long start = System.nanoTime();
+            PerfOverlay overlay = perfOverlay;
+            FrameSnapshot frame = renderFrame(strategy, start, overlay);
+            long end = System.nanoTime();
+            if (overlay != null) {
+                overlay.paintFinished(end - start);
+            }
+
+            if (idle.isIdle(frame, end)) {
+                // Layar statis: tunggu laju idle atau tombol berikutnya
+                LockSupport.parkNanos(idle.getIdleInterval());
+                nextFrame = System.nanoTime();
+            } else if (frameInterval > 0) {
+                nextFrame += frameInterval;
+                long sleep = nextFrame - System.nanoTime();
+                if (sleep > 0) {
+                    LockSupport.parkNanos(sleep);
+                } else {
+                    // Terlambat; jangan mencoba mengejar frame yang terlewat
+                    nextFrame = System.nanoTime();
+                }
+            }
+        }
+    }
+
+    private FrameSnapshot renderFrame(BufferStrategy strategy, long now, PerfOverlay overlay) {
+        FrameSnapshot frame = runner.getSnapshots().acquireFront();
+        do {
+            do {
+                Graphics2D g = (Graphics2D) strategy.getDrawGraphics();
+                try {
+                    g.setColor(getBackground());
+                    g.fillRect(0, 0, getWidth(), getHeight());
+                    renderer.render(g, frame, now);
+                    if (overlay != null) {
+                        overlay.draw(g, frame, renderer.getQuality(), now);
+                    }
+                } finally {
+                    g.dispose();
+                }
+            } while (strategy.contentsRestored());
+            strategy.show();
+        } while (strategy.contentsLost());
+        Toolkit.getDefaultToolkit().sync();
+        if (latency != null && latency.presented(frame.inputTime, System.nanoTime())) {
+            runner.acknowledgeInput(frame.inputTime);
+        }
+        return frame;
+    }
+
+    @Override
+    public void keyTyped(KeyEvent e) {
+    }
+
+    @Override
+    public void keyReleased(KeyEvent e) {
+        runner.postKeyReleased(e.getKeyCode());
+        wake();
+    }
+
+    @Override
+    public void keyPressed(KeyEvent e) {
+        if (e.getKeyCode() == KeyEvent.VK_F3) {
+            togglePerfOverlay();
+        } else {
+            runner.postKey(e.getKeyCode());
+        }
+        wake();
+    }
+
+    /**
+     * Menampilkan atau menyembunyikan overlay performa; selama tersembunyi
+     * tick tidak diukur. Dipanggil dari EDT.
+     */
+    private void togglePerfOverlay() {
+        if (perfOverlay == null) {
+            // Tanpa SimulationThread, simulasi berjalan di EDT (thread ini)
+            PerfOverlay overlay = new PerfOverlay(simulationThread != null ? simulationThread : Thread.currentThread());
+            runner.setTickTimes(overlay.getTickTimes());
+            perfOverlay = overlay;
+        } else {
+            runner.setTickTimes(null);
+            perfOverlay = null;
+        }
+    }
+
+    /**
+     * Membangunkan thread render yang sedang idle agar hasil tombol langsung tampil
+     */
+    private void wake() {
+        idle.inputReceived(System.nanoTime());
+        LockSupport.unpark(renderThread);
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ * Konfigurasi game loop dan rendering yang dibaca dari system property
+ * saat startup, misalnya: java -Dbrickblast.tps=250 -Dbrickblast.render=active Main
+ */
+public final class GameConfig {
+    /** Laju simulasi dalam tick per detik */
+    public static final int TICKS_PER_SECOND = Integer.getInteger("brickblast.tps", GameWorld.TICKS_PER_SECOND);
+
+    /** Batas frame per detik; 0 = tanpa batas */
+    public static final int MAX_FPS = Integer.getInteger("brickblast.maxFps", 0);
+
+    /** Laju frame saat layar statis (menu, pause, game over) tanpa input; 0 = tidak diturunkan */
+    public static final int IDLE_FPS = Integer.getInteger("brickblast.idleFps", 10);
+
+    /** Kualitas gambar: auto (diatur QualityGovernor) atau tingkat tetap seperti full, no_glow, flat */
+    public static final String QUALITY = System.getProperty("brickblast.quality", "auto");
+
+    /** Anggaran rata-rata waktu render per frame untuk kualitas auto; 0 = separuh jarak antar frame */
+    public static final int RENDER_BUDGET_MS = Integer.getInteger("brickblast.renderBudgetMs", 0);
+
+    /** true jika overlay performa (F3) langsung aktif saat game dimulai */
+    public static final boolean PERF_OVERLAY = Boolean.getBoolean("brickblast.perfOverlay");
+
+    /** Batas tick yang dikejar dalam satu frame (mencegah spiral of death) */
+    public static final int MAX_STEPS_PER_FRAME = 5;
+
+    /** true jika simulasi dijalankan di Event Dispatch Thread, bukan SimulationThread */
+    public static final boolean SIMULATE_ON_EDT = "edt".equals(System.getProperty("brickblast.simulation"));
+
+    /** true jika memakai active rendering (Canvas + BufferStrategy) alih-alih repaint() Swing */
+    public static final boolean ACTIVE_RENDERING = "active".equals(System.getProperty("brickblast.render"));
+
+    /** true jika bola diproses paralel di ForkJoinPool saat jumlahnya sangat banyak */
+    public static final boolean PARALLEL_BALLS = Boolean.getBoolean("brickblast.parallel");
+
+    /** Ukuran map khusus (baris dan kolom brick); 0 = ukuran bawaan level */
+    public static final int MAP_ROWS = Integer.getInteger("brickblast.mapRows", 0);
+    public static final int MAP_COLUMNS = Integer.getInteger("brickblast.mapColumns", 0);
+
+    /** true untuk mode endless: baris brick baru terus masuk dari atas */
+    public static final boolean ENDLESS = "endless".equals(System.getProperty("brickblast.mode"));
+
+    /** true jika map level berikutnya disiapkan di thread latar belakang (bawaan aktif) */
+    public static final boolean PRELOAD_LEVELS = !"false".equals(System.getProperty("brickblast.preload"));
+
+    /** Path file level pack (dibuat dengan LevelPackWriter); null = level acak */
+    public static final String LEVEL_PACK = System.getProperty("brickblast.levelPack");
+
+    /** Path file layout teks yang dipantau dan dimuat ulang saat disimpan; null = tidak ada */
+    public static final String LEVEL_FILE = System.getProperty("brickblast.levelFile");
+
+    /** true jika latensi input-ke-layar diukur dan dicetak secara berkala */
+    public static final boolean TRACE_LATENCY = Boolean.getBoolean("brickblast.traceLatency");
+
+    private GameConfig() {
+    }
+}
@@ -0,0 +1,242 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Event Java Flight Recorder untuk fase tick dan paint serta kejadian game
+ * (brick dipukul, power-up muncul dan diambil), agar stutter di JDK Mission
+ * Control dapat dikaitkan dengan kejadian tertentu. Semua event ada di
+ * kategori "Brick Blast".
+ *
+ * Setiap jenis event memiliki satu instance PROBE yang hanya dipakai untuk
+ * isEnabled(). Pemanggil membuat event hanya jika jenisnya sedang direkam,
+ * sehingga tanpa rekaman JFR tidak ada alokasi maupun pengukuran waktu.
+ * Contoh: java -XX:StartFlightRecording=filename=brickblast.jfr Main
+ */
+public final class GameEvents {
+    // Nama fase tick (lihat GameWorld.step). Tiga fase bola mengikuti urutan
+    // BallUpdater.update untuk setiap bola; waktunya dijumlahkan dari semua bola.
+    public static final String TICK_INPUT = "input";
+    public static final String TICK_POWER_UPS = "power-up";
+    public static final String TICK_BALL_PADDLE = "bola-paddle";
+    public static final String TICK_BALL_BRICKS = "bola-brick";
+    public static final String TICK_BALL_WALLS = "bola-dinding";
+    public static final String TICK_RULES = "nyawa/level";
+
+    // Nama fase paint (lihat GameRenderer.render)
+    public static final String PAINT_BACKGROUND = "background";
+    public static final String PAINT_BRICKS = "brick";
+    public static final String PAINT_OBJECTS = "paddle/bola/power-up";
+    public static final String PAINT_HUD = "HUD";
+    public static final String PAINT_OVERLAY = "overlay";
+
+    private static final TickPhase TICK_PHASE_PROBE = new TickPhase();
+    private static final PaintPhase PAINT_PHASE_PROBE = new PaintPhase();
+    private static final BrickHit BRICK_HIT_PROBE = new BrickHit();
+    private static final PowerUpSpawn POWER_UP_SPAWN_PROBE = new PowerUpSpawn();
+    private static final PowerUpApply POWER_UP_APPLY_PROBE = new PowerUpApply();
+
+    private GameEvents() {
+    }
+
+    @Name("brickblast.TickPhase")
+    @Label("Fase Tick")
+    @Description("Satu fase GameWorld.step")
+    @Category({ "Brick Blast", "Simulasi" })
+    @StackTrace(false)
+    public static final class TickPhase extends Event {
+        @Label("Fase")
+        String phase;
+
+        @Label("Waktu Fase")
+        @Description("Waktu yang dihabiskan fase ini; untuk fase bola dijumlahkan dari semua bola, "
+                + "sedangkan durasi event mencakup seluruh pemrosesan bola")
+        @Timespan(Timespan.NANOSECONDS)
+        long phaseTime;
+
+        // Awal fase (System.nanoTime) untuk menghitung phaseTime; tidak direkam
+        transient long startNanos;
+
+        @Label("Jumlah Bola")
+        int balls;
+
+        @Label("Jumlah Power-up")
+        int powerUps;
+    }
+
+    @Name("brickblast.PaintPhase")
+    @Label("Fase Paint")
+    @Description("Satu fase GameRenderer.render")
+    @Category({ "Brick Blast", "Render" })
+    @StackTrace(false)
+    public static final class PaintPhase extends Event {
+        @Label("Fase")
+        String phase;
+
+        @Label("State")
+        String state;
+
+        @Label("Kualitas")
+        String quality;
+    }
+
+    @Name("brickblast.BrickHit")
+    @Label("Brick Dipukul")
+    @Category({ "Brick Blast", "Game" })
+    @StackTrace(false)
+    public static final class BrickHit extends Event {
+        @Label("Baris")
+        int row;
+
+        @Label("Kolom")
+        int column;
+
+        @Label("Nilai Sebelumnya")
+        @Description("1 = normal, 2 = power-up, 3 = kuat")
+        int value;
+
+        @Label("Hancur")
+        boolean destroyed;
+    }
+
+    @Name("brickblast.PowerUpSpawn")
+    @Label("Power-up Muncul")
+    @Category({ "Brick Blast", "Game" })
+    @StackTrace(false)
+    public static final class PowerUpSpawn extends Event {
+        @Label("Tipe")
+        String type;
+
+        @Label("X")
+        int x;
+
+        @Label("Y")
+        int y;
+    }
+
+    @Name("brickblast.PowerUpApply")
+    @Label("Power-up Diambil")
+    @Category({ "Brick Blast", "Game" })
+    @StackTrace(false)
+    public static final class PowerUpApply extends Event {
+        @Label("Tipe")
+        String type;
+
+        @Label("Jumlah Bola")
+        int balls;
+    }
+
+    /**
+     * Memulai fase tick
+     *
+     * @return null jika event fase tick tidak sedang direkam
+     */
+    public static TickPhase beginTickPhase(String phase) {
+        if (!TICK_PHASE_PROBE.isEnabled()) {
+            return null;
+        }
+        TickPhase event = new TickPhase();
+        event.phase = phase;
+        event.startNanos = System.nanoTime();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Mengakhiri fase tick dari beginTickPhase (boleh null)
+     */
+    public static void endTickPhase(TickPhase event, int balls, int powerUps) {
+        if (event != null) {
+            endTickPhase(event, System.nanoTime() - event.startNanos, balls, powerUps);
+        }
+    }
+
+    /**
+     * Mengakhiri fase tick yang waktunya dijumlahkan dari beberapa bagian
+     * (misalnya tabrakan paddle untuk setiap bola)
+     *
+     * @param phaseNanos Jumlah waktu fase dalam nanodetik
+     */
+    public static void endTickPhase(TickPhase event, long phaseNanos, int balls, int powerUps) {
+        if (event != null) {
+            event.phaseTime = phaseNanos;
+            event.balls = balls;
+            event.powerUps = powerUps;
+            event.commit();
+        }
+    }
+
+    /**
+     * Memulai fase paint
+     *
+     * @return null jika event fase paint tidak sedang direkam
+     */
+    public static PaintPhase beginPaintPhase(String phase, GameState state, RenderQuality quality) {
+        if (!PAINT_PHASE_PROBE.isEnabled()) {
+            return null;
+        }
+        PaintPhase event = new PaintPhase();
+        event.phase = phase;
+        event.state = state.name();
+        event.quality = quality.name();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Mengakhiri fase paint dari beginPaintPhase (boleh null)
+     */
+    public static void endPaintPhase(PaintPhase event) {
+        if (event != null) {
+            event.commit();
+        }
+    }
+
+    /**
+     * Brick dipukul bola
+     *
+     * @param value     Nilai brick sebelum dipukul
+     * @param destroyed true jika brick hancur (bukan brick kuat yang melemah)
+     */
+    public static void brickHit(int row, int column, int value, boolean destroyed) {
+        if (BRICK_HIT_PROBE.isEnabled()) {
+            BrickHit event = new BrickHit();
+            event.row = row;
+            event.column = column;
+            event.value = value;
+            event.destroyed = destroyed;
+            event.commit();
+        }
+    }
+
+    /**
+     * Power-up mulai jatuh dari brick
+     */
+    public static void powerUpSpawned(PowerUpType type, int x, int y) {
+        if (POWER_UP_SPAWN_PROBE.isEnabled()) {
+            PowerUpSpawn event = new PowerUpSpawn();
+            event.type = type.name();
+            event.x = x;
+            event.y = y;
+            event.commit();
+        }
+    }
+
+    /**
+     * Power-up ditangkap paddle dan efeknya diterapkan
+     *
+     * @param balls Jumlah bola setelah efek diterapkan
+     */
+    public static void powerUpApplied(PowerUpType type, int balls) {
+        if (POWER_UP_APPLY_PROBE.isEnabled()) {
+            PowerUpApply event = new PowerUpApply();
+            event.type = type.name();
+            event.balls = balls;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/**
+ * Menampung perintah input pemain yang terkumpul di antara dua tick simulasi.
+ * Diisi oleh lapisan input (misalnya GamePanel) lalu dikonsumsi oleh
+ * GameWorld.step(), sehingga simulasi tidak bergantung pada Swing/AWT.
+ *
+ * Paddle digerakkan dengan sumbu paddle, yaitu bagian tick (-1 sampai 1)
+ * selama tombol kanan dikurangi tombol kiri ditahan, yang dikalikan dengan
+ * kecepatan paddle per tick.
+ */
+public class GameInput {
+    private boolean pausePressed;
+    private boolean enterPressed;
+    private double paddleAxis;
+
+    public void pressPause() {
+        pausePressed = true;
+    }
+
+    public void pressEnter() {
+        enterPressed = true;
+    }
+
+    /**
+     * @param axis Bagian tick selama paddle ditahan ke kanan (positif) atau
+     *             ke kiri (negatif), antara -1 dan 1
+     */
+    public void setPaddleAxis(double axis) {
+        paddleAxis = Math.max(-1, Math.min(1, axis));
+    }
+
+    public double getPaddleAxis() {
+        return paddleAxis;
+    }
+
+    public boolean isPausePressed() {
+        return pausePressed;
+    }
+
+    public boolean isEnterPressed() {
+        return enterPressed;
+    }
+
+    /**
+     * Mengosongkan semua perintah setelah dikonsumsi oleh satu tick
+     */
+    public void clear() {
+        pausePressed = false;
+        enterPressed = false;
+        paddleAxis = 0;
+    }
+}
@@ -0,0 +1,76 @@
+/**
+ * Penghitung langkah untuk game loop dengan fixed timestep.
+ * Waktu nyata yang berlalu dikumpulkan dalam akumulator lalu dipecah menjadi
+ * tick simulasi berukuran tetap, sehingga kecepatan game tidak bergantung
+ * pada seberapa tepat waktu loop dipanggil. Sisa akumulator menentukan kapan
+ * tick berikutnya jatuh tempo.
+ *
+ * Kelas ini tidak menjalankan thread sendiri; pemanggil (Swing Timer, thread
+ * simulasi, dll.) cukup memanggil advance() setiap frame.
+ */
+public class GameLoop {
+    private final long tickNanos;
+    private final int maxStepsPerFrame;
+    private final long maxFrameNanos;
+
+    private long lastTime = -1;
+    private long accumulator = 0;
+
+    /**
+     * @param ticksPerSecond   Laju simulasi dalam tick per detik
+     * @param maxStepsPerFrame Batas tick yang dikejar dalam satu frame, agar
+     *                         jeda panjang (misalnya GC) tidak memicu spiral of death
+     */
+    public GameLoop(int ticksPerSecond, int maxStepsPerFrame) {
+        if (ticksPerSecond <= 0 || maxStepsPerFrame <= 0) {
+            throw new IllegalArgumentException("ticksPerSecond dan maxStepsPerFrame harus positif");
+        }
+        this.tickNanos = 1_000_000_000L / ticksPerSecond;
+        this.maxStepsPerFrame = maxStepsPerFrame;
+        this.maxFrameNanos = tickNanos * maxStepsPerFrame;
+    }
+
+    /**
+     * Menambahkan waktu yang berlalu sejak pemanggilan sebelumnya ke akumulator
+     *
+     * @param now Waktu saat ini dari System.nanoTime()
+     * @return Jumlah tick simulasi yang harus dijalankan frame ini
+     */
+    public int advance(long now) {
+        if (lastTime < 0) {
+            lastTime = now;
+            return 0;
+        }
+
+        long frameNanos = now - lastTime;
+        lastTime = now;
+
+        // Batasi waktu yang dikejar; sisanya dibuang (game melambat sesaat)
+        if (frameNanos > maxFrameNanos) {
+            frameNanos = maxFrameNanos;
+        }
+
+        accumulator += frameNanos;
+        int steps = (int) (accumulator / tickNanos);
+        accumulator -= steps * tickNanos;
+        return steps;
+    }
+
+    /**
+     * Waktu (nanodetik) sampai tick berikutnya jatuh tempo
+     */
+    public long getNanosUntilNextTick() {
+        return tickNanos - accumulator;
+    }
+
+    /**
+     * Waktu (System.nanoTime) saat tick terakhir jatuh tempo
+     */
+    public long getLastTickTime() {
+        return lastTime - accumulator;
+    }
+
+    public long getTickNanos() {
+        return tickNanos;
+    }
+}
@@ -0,0 +1,568 @@
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+/**
+ * Menggambar game dari FrameSnapshot: background, brick, paddle, bola,
+ * power-up, HUD, dan layar overlay tiap state. Tidak membaca GameWorld
+ * secara langsung, sehingga aman dipakai dari thread rendering mana pun
+ * selama satu renderer hanya dipakai oleh satu thread.
+ *
+ * Jika field lebih lebar dari layar, kamera bergulir horizontal mengikuti
+ * paddle. Objek field digambar dalam koordinat field yang digeser sejauh
+ * posisi kamera, dan hanya objek yang berada di layar yang digambar.
+ *
+ * Bagian yang statis dirender sekali ke image lalu hanya di-blit setiap
+ * frame: background gradient, layar awal, border, dan overlay tiap state.
+ * Overlay yang memuat angka (skor akhir, nomor level) dirender ulang hanya
+ * saat angkanya berubah.
+ *
+ * Bola, paddle, dan power-up digambar dengan RenderQuality dari
+ * QualityGovernor, yang menurunkan kualitas jika render frame bermain
+ * melewati anggaran waktu dan menaikkannya lagi saat ada ruang.
+ */
+public class GameRenderer {
+    // Konstanta tampilan
+    private static final int PANEL_WIDTH = GameWorld.WIDTH;
+    private static final int PANEL_HEIGHT = GameWorld.HEIGHT;
+
+    // Warna untuk background gradient dan border
+    private static final Color BG_TOP = new Color(15, 15, 50);
+    private static final Color BG_BOTTOM = new Color(0, 0, 0);
+    private static final Color BORDER_TOP = new Color(255, 200, 50);
+    private static final Color BORDER_BOTTOM = new Color(255, 100, 50);
+    private static final int BORDER_SIZE = 4;
+
+    // Font
+    private static final Font TITLE_FONT = new Font("Arial", Font.BOLD, 48);
+    private static final Font SUBTITLE_FONT = new Font("Arial", Font.PLAIN, 20);
+    private static final Font SCORE_FONT = new Font("Arial", Font.BOLD, 22);
+    private static final Font MESSAGE_FONT = new Font("Arial", Font.BOLD, 36);
+    private static final Font INSTRUCTION_FONT = new Font("Arial", Font.PLAIN, 18);
+    private static final Font POWERUP_FONT = new Font("Arial", Font.BOLD, 16);
+    private static final Font PROMPT_FONT = new Font("Arial", Font.BOLD, 24);
+    private static final Font LIVES_FONT = new Font("Arial", Font.BOLD, 20);
+
+    // Warna teks dan overlay
+    private static final Color MESSAGE_COLOR = new Color(255, 255, 100);
+    private static final Color OVERLAY_LIGHT = new Color(0, 0, 0, 150);
+    private static final Color OVERLAY_DARK = new Color(0, 0, 0, 180);
+    private static final Color PLAY_AGAIN_COLOR = new Color(150, 255, 150);
+
+    // Teks statis layar awal (null = baris kosong) beserta baseline-nya
+    private static final int[] START_LINE_Y = { 180, 220, 280, 305, 330, 355, 380, 405, 430, 455, 480, 505 };
+    private final TextSprite[] startLines = {
+            new TextSprite("BRICK BLAST", TITLE_FONT, new Color(255, 200, 50)),
+            new TextSprite("Power-ups Edition", SUBTITLE_FONT, new Color(150, 200, 255)),
+            new TextSprite("CARA BERMAIN:", INSTRUCTION_FONT, Color.WHITE),
+            null,
+            new TextSprite("<- -> Tombol Panah - Gerakkan Paddle", INSTRUCTION_FONT, Color.WHITE),
+            new TextSprite("P - Pause Game", INSTRUCTION_FONT, Color.WHITE),
+            new TextSprite("Enter - Mulai / Restart", INSTRUCTION_FONT, Color.WHITE),
+            null,
+            new TextSprite("POWER-UP:", INSTRUCTION_FONT, Color.WHITE),
+            new TextSprite("* Brick - Jatuhkan power-up!", INSTRUCTION_FONT, Color.WHITE),
+            new TextSprite("x3 = Multi Bola | + = Paddle Lebar", INSTRUCTION_FONT, Color.WHITE),
+            new TextSprite("S = Bola Lambat | Hati = Nyawa Extra", INSTRUCTION_FONT, Color.WHITE)
+    };
+    private final TextSprite startPrompt = new TextSprite(">> Tekan ENTER untuk Mulai <<", PROMPT_FONT,
+            new Color(100, 255, 100));
+
+    // Teks statis layar overlay
+    private final TextSprite pauseTitle = new TextSprite("PAUSE", MESSAGE_FONT, Color.WHITE);
+    private final TextSprite pausePrompt = new TextSprite("Tekan P untuk Lanjutkan", INSTRUCTION_FONT, Color.WHITE);
+    private final TextSprite gameOverTitle = new TextSprite("GAME OVER", MESSAGE_FONT, new Color(255, 80, 80));
+    private final TextSprite playAgainPrompt = new TextSprite("Tekan ENTER untuk Main Lagi", INSTRUCTION_FONT,
+            PLAY_AGAIN_COLOR);
+    private final TextSprite nextLevelPrompt = new TextSprite("Tekan ENTER untuk Level Berikutnya",
+            INSTRUCTION_FONT, Color.WHITE);
+    private final TextSprite wonTitle = new TextSprite("SELAMAT!", MESSAGE_FONT, new Color(255, 215, 0));
+    private final TextSprite wonSubtitle = new TextSprite("ANDA MENANG!", MESSAGE_FONT, new Color(100, 255, 100));
+
+    // Teks HUD dan overlay yang berisi angka; dirasterisasi ulang hanya saat angkanya berubah
+    private final ValueText scoreText = new ValueText("Skor: ", "", SCORE_FONT, Color.WHITE);
+    private final ValueText levelText = new ValueText("Level: ", "", SCORE_FONT, new Color(150, 200, 255));
+    private final ValueText ballText = new ValueText("Bola: ", "", SCORE_FONT, new Color(255, 200, 100));
+    private final ValueText livesText = new ValueText("Nyawa: ", "", LIVES_FONT, new Color(255, 80, 80));
+    private final ValueText finalScoreText = new ValueText("Skor Akhir: ", "", SCORE_FONT, Color.WHITE);
+    private final ValueText levelCompleteText = new ValueText("LEVEL ", " SELESAI!", MESSAGE_FONT,
+            new Color(100, 255, 100));
+
+    // Pesan power-up terakhir yang dirasterisasi
+    private String messageText;
+    private TextSprite messageSprite;
+
+    // Snapshot, faktor interpolasi, dan posisi kamera untuk frame yang sedang digambar
+    private FrameSnapshot frame;
+    private float alpha = 1f;
+    private int cameraX;
+    private RenderQuality quality;
+
+    // Pengatur kualitas berdasarkan lama render frame bermain
+    private final QualityGovernor governor = QualityGovernor.create();
+
+    // Layer brick yang hanya diperbarui saat map berubah; diganti dengan
+    // layer dari LevelPreloader saat level baru dimulai
+    private BrickLayer brickLayer = new BrickLayer();
+
+    // Layer statis yang sudah dirender
+    private final BufferedImage background = createBackground();
+    private final BufferedImage startScreen = createStartScreen();
+    private final BufferedImage borderColumn = createBorder(BORDER_SIZE, PANEL_HEIGHT);
+    private final BufferedImage borderTop = createBorder(PANEL_WIDTH, BORDER_SIZE);
+
+    // Overlay per state (indeks = ordinal) dan angka yang tergambar di dalamnya
+    private final BufferedImage[] overlays = new BufferedImage[GameState.values().length];
+    private final int[] overlayValues = new int[GameState.values().length];
+
+    // Area HUD dan pesan power-up di layar
+    private static final Rectangle HUD_AREA = new Rectangle(0, 0, PANEL_WIDTH, 40);
+    private static final Rectangle MESSAGE_AREA = new Rectangle(0, 495, PANEL_WIDTH, 35);
+
+    // State frame sebelumnya untuk menghitung dirty region
+    private GameState lastState;
+    private int lastScore = -1;
+    private int lastLevel = -1;
+    private int lastLives = -1;
+    private int lastBallCount = -1;
+    private int lastMessageTimer = -1;
+    private long lastBrickVersion = -1;
+    private int lastBrickOriginY = MapGenerator.OFFSET_Y;
+    private int lastCameraX;
+    private final Rectangle lastDynamic = new Rectangle();
+    private final Rectangle dynamic = new Rectangle();
+
+    /**
+     * Menggambar satu frame dari snapshot
+     *
+     * @param now Waktu render (System.nanoTime) untuk menghitung interpolasi
+     */
+    public void render(Graphics2D g2d, FrameSnapshot frame, long now) {
+        long start = System.nanoTime();
+        this.frame = frame;
+        this.quality = governor.getQuality();
+        this.alpha = frame.alphaAt(now);
+        this.cameraX = cameraFor(frame);
+
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+        GameState gameState = frame.gameState;
+        GameEvents.PaintPhase phase = beginPhase(GameEvents.PAINT_BACKGROUND);
+        if (gameState == GameState.START) {
+            // Background dan teks statis dalam satu layer; hanya prompt yang berkedip
+            g2d.drawImage(startScreen, 0, 0, null);
+            if ((System.currentTimeMillis() / 500) % 2 == 0) {
+                startPrompt.drawCentered(g2d, PANEL_WIDTH, 550);
+            }
+        } else {
+            g2d.drawImage(background, 0, 0, null);
+        }
+        GameEvents.endPaintPhase(phase);
+
+        if (gameState != GameState.START) {
+            drawGame(g2d);
+        }
+
+        // Overlay untuk state selain START dan PLAYING
+        if (gameState != GameState.START && gameState != GameState.PLAYING) {
+            phase = beginPhase(GameEvents.PAINT_OVERLAY);
+            g2d.drawImage(overlayFor(gameState, overlayValue(gameState)), 0, 0, null);
+            GameEvents.endPaintPhase(phase);
+        }
+
+        // Layar statis tidak memengaruhi kualitas objek yang bergerak
+        if (gameState == GameState.PLAYING) {
+            governor.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Tingkat kualitas yang dipakai untuk frame berikutnya
+     */
+    public RenderQuality getQuality() {
+        return governor.getQuality();
+    }
+
+    /**
+     * Angka yang tergambar di overlay state: nomor level untuk
+     * LEVEL_COMPLETE, skor akhir untuk GAME_OVER dan WON
+     */
+    private int overlayValue(GameState state) {
+        switch (state) {
+            case LEVEL_COMPLETE:
+                return frame.level;
+            case GAME_OVER:
+            case WON:
+                return frame.score;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Memulai event JFR untuk satu fase paint (null jika tidak direkam)
+     */
+    private GameEvents.PaintPhase beginPhase(String name) {
+        return GameEvents.beginPaintPhase(name, frame.gameState, quality);
+    }
+
+    private static BufferedImage createBackground() {
+        BufferedImage image = BrickSprites.createImage(PANEL_WIDTH, PANEL_HEIGHT, Transparency.OPAQUE);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setPaint(new GradientPaint(0, 0, BG_TOP, 0, PANEL_HEIGHT, BG_BOTTOM));
+            g.fillRect(0, 0, PANEL_WIDTH, PANEL_HEIGHT);
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+    /**
+     * Potongan border dengan gradient vertikal yang sama seperti border
+     * setinggi layar, untuk sisi kiri/kanan (kolom) dan sisi atas
+     */
+    private static BufferedImage createBorder(int width, int height) {
+        BufferedImage image = BrickSprites.createImage(width, height, Transparency.OPAQUE);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setPaint(new GradientPaint(0, 0, BORDER_TOP, 0, PANEL_HEIGHT, BORDER_BOTTOM));
+            g.fillRect(0, 0, width, height);
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+    private BufferedImage createStartScreen() {
+        BufferedImage image = BrickSprites.createImage(PANEL_WIDTH, PANEL_HEIGHT, Transparency.OPAQUE);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.drawImage(background, 0, 0, null);
+            // Judul, subjudul, dan instruksi
+            for (int i = 0; i < startLines.length; i++) {
+                if (startLines[i] != null) {
+                    startLines[i].drawCentered(g, PANEL_WIDTH, START_LINE_Y[i]);
+                }
+            }
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+    /**
+     * Overlay transparan untuk state PAUSED, LEVEL_COMPLETE, GAME_OVER, atau
+     * WON; dirender ulang ke image yang sama hanya jika value berubah
+     *
+     * @param value Angka yang tergambar di overlay (level atau skor akhir)
+     */
+    private BufferedImage overlayFor(GameState state, int value) {
+        int index = state.ordinal();
+        BufferedImage image = overlays[index];
+        if (image != null && overlayValues[index] == value) {
+            return image;
+        }
+        if (image == null) {
+            image = BrickSprites.createImage(PANEL_WIDTH, PANEL_HEIGHT);
+            overlays[index] = image;
+        }
+        overlayValues[index] = value;
+
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setComposite(AlphaComposite.Clear);
+            g.fillRect(0, 0, PANEL_WIDTH, PANEL_HEIGHT);
+            g.setComposite(AlphaComposite.SrcOver);
+            switch (state) {
+                case PAUSED:
+                    drawPauseOverlay(g);
+                    break;
+                case LEVEL_COMPLETE:
+                    drawLevelComplete(g, value);
+                    break;
+                case GAME_OVER:
+                    drawGameOver(g, value);
+                    break;
+                case WON:
+                    drawWonScreen(g, value);
+                    break;
+                default:
+                    break;
+            }
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+    private void drawGame(Graphics2D g) {
+        int fieldWidth = frame.fieldWidth;
+        g.translate(-cameraX, 0);
+
+        // Gambar brick dari layer cache
+        GameEvents.PaintPhase phase = beginPhase(GameEvents.PAINT_BRICKS);
+        if (frame.preparedBrickLayer != null) {
+            // Level baru yang layernya sudah digambar: cukup ganti referensi,
+            // sisanya (brick yang sudah pecah) ditambal oleh update
+            brickLayer = frame.preparedBrickLayer;
+        }
+        brickLayer.update(frame);
+        brickLayer.draw(g);
+
+        // Gambar border dari layer gradient
+        g.drawImage(borderColumn, 0, 0, null);
+        g.drawImage(borderTop, cameraX, 0, null);
+        g.drawImage(borderColumn, fieldWidth - BORDER_SIZE, 0, null);
+        GameEvents.endPaintPhase(phase);
+
+        // Gambar HUD (koordinat layar)
+        phase = beginPhase(GameEvents.PAINT_HUD);
+        g.translate(cameraX, 0);
+        drawHUD(g);
+        g.translate(-cameraX, 0);
+        GameEvents.endPaintPhase(phase);
+
+        // Gambar paddle
+        phase = beginPhase(GameEvents.PAINT_OBJECTS);
+        int paddleX = lerp(frame.paddlePrevX, frame.paddleX);
+        Paddle.drawAt(g, paddleX, frame.paddleY, frame.paddleWidth, frame.paddleHeight,
+                frame.paddleColorTop, frame.paddleColorBottom, quality);
+
+        // Gambar bola yang berada di layar
+        int ballSize = frame.ballSize;
+        for (int i = 0; i < frame.ballCount; i++) {
+            int x = lerp(frame.ballPrevX[i], frame.ballX[i]);
+            if (isVisible(x - 5, ballSize + 10)) {
+                Ball.drawAt(g, x, lerp(frame.ballPrevY[i], frame.ballY[i]), ballSize, quality);
+            }
+        }
+
+        // Gambar power-up yang berada di layar
+        for (int i = 0; i < frame.powerUpCount; i++) {
+            if (isVisible(frame.powerUpX[i], frame.powerUpWidth[i])) {
+                PowerUp.drawAt(g, frame.powerUpX[i], lerp(frame.powerUpPrevY[i], frame.powerUpY[i]),
+                        frame.powerUpWidth[i], frame.powerUpHeight[i], frame.powerUpTypes[i], quality);
+            }
+        }
+        g.translate(cameraX, 0);
+        GameEvents.endPaintPhase(phase);
+
+        // Gambar pesan power-up (memudar dengan alpha composite)
+        int messageTimer = frame.messageTimer;
+        if (messageTimer > 0) {
+            phase = beginPhase(GameEvents.PAINT_HUD);
+            if (messageSprite == null || !frame.powerUpMessage.equals(messageText)) {
+                messageText = frame.powerUpMessage;
+                messageSprite = new TextSprite(messageText, POWERUP_FONT, MESSAGE_COLOR);
+            }
+            Composite composite = g.getComposite();
+            g.setComposite(AlphaComposite.SrcOver.derive(Math.min(255, messageTimer * 5) / 255f));
+            messageSprite.drawCentered(g, PANEL_WIDTH, 520);
+            g.setComposite(composite);
+            GameEvents.endPaintPhase(phase);
+        }
+    }
+
+    private void drawHUD(Graphics2D g) {
+        scoreText.draw(g, frame.score, 20, 30);
+        levelText.draw(g, frame.level, 280, 30);
+        if (frame.ballCount > 1) {
+            ballText.draw(g, frame.ballCount, 420, 30);
+        }
+        livesText.draw(g, frame.lives, 560, 30);
+    }
+
+    private void drawPauseOverlay(Graphics2D g) {
+        g.setColor(OVERLAY_LIGHT);
+        g.fillRect(0, 0, PANEL_WIDTH, PANEL_HEIGHT);
+
+        pauseTitle.drawCentered(g, PANEL_WIDTH, 280);
+        pausePrompt.drawCentered(g, PANEL_WIDTH, 320);
+    }
+
+    private void drawGameOver(Graphics2D g, int score) {
+        g.setColor(OVERLAY_DARK);
+        g.fillRect(0, 0, PANEL_WIDTH, PANEL_HEIGHT);
+
+        gameOverTitle.drawCentered(g, PANEL_WIDTH, 260);
+        finalScoreText.drawCentered(g, score, PANEL_WIDTH, 310);
+        playAgainPrompt.drawCentered(g, PANEL_WIDTH, 360);
+    }
+
+    private void drawLevelComplete(Graphics2D g, int level) {
+        g.setColor(OVERLAY_LIGHT);
+        g.fillRect(0, 0, PANEL_WIDTH, PANEL_HEIGHT);
+
+        levelCompleteText.drawCentered(g, level, PANEL_WIDTH, 280);
+        nextLevelPrompt.drawCentered(g, PANEL_WIDTH, 330);
+    }
+
+    private void drawWonScreen(Graphics2D g, int score) {
+        g.setColor(OVERLAY_LIGHT);
+        g.fillRect(0, 0, PANEL_WIDTH, PANEL_HEIGHT);
+
+        wonTitle.drawCentered(g, PANEL_WIDTH, 240);
+        wonSubtitle.drawCentered(g, PANEL_WIDTH, 290);
+        finalScoreText.drawCentered(g, score, PANEL_WIDTH, 340);
+        playAgainPrompt.drawCentered(g, PANEL_WIDTH, 390);
+    }
+
+    /**
+     * Teks berisi satu angka (skor, level, nyawa, ...). Teks hanya
+     * dirasterisasi ulang jika angkanya berubah, sehingga frame biasa tidak
+     * menggabungkan string maupun menyusun glyph.
+     */
+    private static final class ValueText {
+        private final String prefix;
+        private final String suffix;
+        private final Font font;
+        private final Color color;
+        private int value;
+        private TextSprite sprite;
+
+        ValueText(String prefix, String suffix, Font font, Color color) {
+            this.prefix = prefix;
+            this.suffix = suffix;
+            this.font = font;
+            this.color = color;
+        }
+
+        private TextSprite spriteFor(int newValue) {
+            if (sprite == null || newValue != value) {
+                value = newValue;
+                sprite = new TextSprite(prefix + newValue + suffix, font, color);
+            }
+            return sprite;
+        }
+
+        void draw(Graphics2D g, int newValue, int x, int y) {
+            spriteFor(newValue).draw(g, x, y);
+        }
+
+        void drawCentered(Graphics2D g, int newValue, int areaWidth, int y) {
+            spriteFor(newValue).drawCentered(g, areaWidth, y);
+        }
+    }
+
+    /**
+     * Menghitung area layar yang berubah sejak frame terakhir yang dihitung.
+     * Mencakup posisi lama dan baru bola, paddle, dan power-up, serta HUD,
+     * pesan, dan field brick jika isinya berubah.
+     *
+     * @param dirty Diisi dengan area yang perlu digambar ulang
+     * @return false jika seluruh layar harus digambar ulang (misalnya state
+     *         berubah atau sedang menampilkan layar overlay)
+     */
+    public boolean computeDirtyRegion(FrameSnapshot frame, long now, Rectangle dirty) {
+        this.frame = frame;
+        this.alpha = frame.alphaAt(now);
+        this.cameraX = cameraFor(frame);
+
+        // Kamera yang bergeser menggulir seluruh layar
+        boolean partial = frame.gameState == GameState.PLAYING && lastState == GameState.PLAYING
+                && cameraX == lastCameraX;
+        lastState = frame.gameState;
+        lastCameraX = cameraX;
+
+        // Area objek yang bergerak pada frame ini (koordinat layar)
+        dynamic.setBounds(0, 0, 0, 0);
+        int paddleX = lerp(frame.paddlePrevX, frame.paddleX);
+        addArea(dynamic, paddleX - 1 - cameraX, frame.paddleY - 1, frame.paddleWidth + 2, frame.paddleHeight + 2);
+        for (int i = 0; i < frame.ballCount; i++) {
+            // Termasuk efek glow di sekeliling bola
+            int x = lerp(frame.ballPrevX[i], frame.ballX[i]) - 5;
+            if (isVisible(x, frame.ballSize + 10)) {
+                addArea(dynamic, x - cameraX, lerp(frame.ballPrevY[i], frame.ballY[i]) - 5,
+                        frame.ballSize + 10, frame.ballSize + 10);
+            }
+        }
+        for (int i = 0; i < frame.powerUpCount; i++) {
+            if (isVisible(frame.powerUpX[i], frame.powerUpWidth[i])) {
+                addArea(dynamic, frame.powerUpX[i] - 1 - cameraX, lerp(frame.powerUpPrevY[i], frame.powerUpY[i]) - 1,
+                        frame.powerUpWidth[i] + 2, frame.powerUpHeight[i] + 2);
+            }
+        }
+
+        dirty.setBounds(dynamic);
+        addArea(dirty, lastDynamic.x, lastDynamic.y, lastDynamic.width, lastDynamic.height);
+        lastDynamic.setBounds(dynamic);
+
+        if (frame.score != lastScore || frame.level != lastLevel || frame.lives != lastLives
+                || frame.ballCount != lastBallCount) {
+            addArea(dirty, HUD_AREA.x, HUD_AREA.y, HUD_AREA.width, HUD_AREA.height);
+            lastScore = frame.score;
+            lastLevel = frame.level;
+            lastLives = frame.lives;
+            lastBallCount = frame.ballCount;
+        }
+        if (frame.messageTimer > 0 || lastMessageTimer > 0) {
+            addArea(dirty, MESSAGE_AREA.x, MESSAGE_AREA.y, MESSAGE_AREA.width, MESSAGE_AREA.height);
+        }
+        lastMessageTimer = frame.messageTimer;
+        if (frame.brickVersion != lastBrickVersion || frame.brickOriginY != lastBrickOriginY) {
+            // Field brick (termasuk tepi antialiasing); pada mode endless
+            // field dapat bergeser hingga satu baris ke bawah
+            int shift = frame.brickOriginY == MapGenerator.OFFSET_Y && lastBrickOriginY == MapGenerator.OFFSET_Y
+                    ? 0 : frame.brickHeight;
+            addArea(dirty, MapGenerator.OFFSET_X - 5 - cameraX, MapGenerator.OFFSET_Y - 5,
+                    frame.cols * frame.brickWidth + 10, frame.rows * frame.brickHeight + shift + 10);
+            lastBrickVersion = frame.brickVersion;
+            lastBrickOriginY = frame.brickOriginY;
+        }
+
+        return partial;
+    }
+
+    /**
+     * Posisi kamera: paddle (hasil interpolasi) di tengah layar, dibatasi
+     * tepi field. Selalu 0 jika field tidak lebih lebar dari layar.
+     */
+    private int cameraFor(FrameSnapshot frame) {
+        if (frame.fieldWidth <= PANEL_WIDTH) {
+            return 0;
+        }
+        int center = lerp(frame.paddlePrevX, frame.paddleX) + frame.paddleWidth / 2;
+        return Math.max(0, Math.min(frame.fieldWidth - PANEL_WIDTH, center - PANEL_WIDTH / 2));
+    }
+
+    /**
+     * Apakah rentang horizontal [x, x + width) dalam koordinat field terlihat di layar
+     */
+    private boolean isVisible(int x, int width) {
+        return x + width > cameraX && x < cameraX + PANEL_WIDTH;
+    }
+
+    /**
+     * Menggabungkan area ke rect tanpa membuat objek Rectangle baru
+     */
+    private static void addArea(Rectangle rect, int x, int y, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        if (rect.width <= 0 || rect.height <= 0) {
+            rect.setBounds(x, y, width, height);
+            return;
+        }
+        int x1 = Math.min(rect.x, x);
+        int y1 = Math.min(rect.y, y);
+        int x2 = Math.max(rect.x + rect.width, x + width);
+        int y2 = Math.max(rect.y + rect.height, y + height);
+        rect.setBounds(x1, y1, x2 - x1, y2 - y1);
+    }
+
+    /**
+     * Interpolasi linear posisi antara tick sebelumnya dan saat ini
+     */
+    private int lerp(int previous, int current) {
+        return Math.round(previous + (current - previous) * alpha);
+    }
+}
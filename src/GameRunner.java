@@ -0,0 +1,209 @@
+import java.awt.event.KeyEvent;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+
+/**
+ * Menghubungkan GameWorld dengan game loop: menerima tombol dari thread UI,
+ * menjalankan tick dengan fixed timestep, lalu mempublikasikan FrameSnapshot
+ * untuk renderer. Dapat digerakkan oleh Swing Timer di EDT maupun oleh
+ * SimulationThread; yang penting hanya satu thread yang memanggil runFrame().
+ */
+public class GameRunner {
+    private final GameWorld world = new GameWorld();
+    private final GameInput input = new GameInput();
+    private final GameLoop loop;
+    private final SnapshotBuffer snapshots = new SnapshotBuffer();
+
+    // Panjang satu tick dalam tick acuan GameWorld (1 pada laju bawaan)
+    private final double dt;
+
+    // Event tombol dari thread UI yang belum diproses simulasi, dan state
+    // tombol panah menurut event terakhir yang sudah diproses
+    private final InputBuffer pendingKeys = new InputBuffer();
+    private boolean leftHeld;
+    private boolean rightHeld;
+
+    // Waktu tiba tombol panah tertua yang sudah diproses tick tetapi belum
+    // dikonfirmasi tampil di layar, dan konfirmasi terakhir dari thread
+    // render. Selama satu tombol belum tampil, tombol berikutnya tidak diukur.
+    private long inputTag = 0;
+    private volatile long presentedTag = 0;
+
+    // Histogram lama tick untuk overlay performa; null = tick tidak diukur
+    private volatile TimingHistogram tickTimes;
+
+    public GameRunner(int ticksPerSecond, int maxStepsPerFrame) {
+        loop = new GameLoop(ticksPerSecond, maxStepsPerFrame);
+        dt = GameWorld.TICKS_PER_SECOND / (double) ticksPerSecond;
+        world.setParallel(GameConfig.PARALLEL_BALLS);
+        if (GameConfig.MAP_ROWS > 0 || GameConfig.MAP_COLUMNS > 0) {
+            world.setMapSize(GameConfig.MAP_ROWS, GameConfig.MAP_COLUMNS);
+        }
+        if (GameConfig.ENDLESS) {
+            world.setEndless(true);
+        }
+        if (GameConfig.LEVEL_PACK != null) {
+            try {
+                world.setLevelPack(LevelPack.open(Paths.get(GameConfig.LEVEL_PACK)));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Gagal membuka level pack " + GameConfig.LEVEL_PACK, e);
+            }
+        }
+        if (GameConfig.LEVEL_FILE != null) {
+            try {
+                world.setLevelWatcher(LevelWatcher.start(Paths.get(GameConfig.LEVEL_FILE)));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Gagal memuat file level " + GameConfig.LEVEL_FILE, e);
+            }
+        }
+        if (GameConfig.PRELOAD_LEVELS) {
+            world.setPreloadLevels(true);
+        }
+        world.start();
+        publish(System.nanoTime());
+    }
+
+    /**
+     * Mencatat tombol yang ditekan; aman dipanggil dari thread mana pun
+     */
+    public void postKey(int keyCode) {
+        pendingKeys.offer(keyCode, true, System.nanoTime());
+    }
+
+    /**
+     * Mencatat tombol yang dilepas; aman dipanggil dari thread mana pun
+     */
+    public void postKeyReleased(int keyCode) {
+        pendingKeys.offer(keyCode, false, System.nanoTime());
+    }
+
+    /**
+     * Melepas semua tombol, misalnya saat jendela kehilangan fokus sehingga
+     * event keyReleased tidak akan datang
+     */
+    public void releaseKeys() {
+        long now = System.nanoTime();
+        pendingKeys.offer(KeyEvent.VK_LEFT, false, now);
+        pendingKeys.offer(KeyEvent.VK_RIGHT, false, now);
+    }
+
+    /**
+     * Menjalankan semua tick yang jatuh tempo dan mempublikasikan snapshot baru
+     *
+     * @return Jumlah tick yang dijalankan
+     */
+    public int runFrame(long now) {
+        int steps = loop.advance(now);
+        long tickNanos = loop.getTickNanos();
+        TimingHistogram timing = tickTimes;
+        for (int i = 0; i < steps; i++) {
+            drainKeys(loop.getLastTickTime() - (steps - 1 - i) * tickNanos, tickNanos);
+            if (timing != null) {
+                long start = System.nanoTime();
+                world.step(input, dt);
+                timing.record(System.nanoTime() - start);
+            } else {
+                world.step(input, dt);
+            }
+            input.clear();
+        }
+        if (steps > 0) {
+            publish(loop.getLastTickTime());
+        }
+        return steps;
+    }
+
+    /**
+     * Memproses event tombol sampai waktu tick, dan menghitung berapa lama
+     * setiap tombol panah ditahan di dalam tick (tickTime - tickNanos,
+     * tickTime]. Kecepatan paddle dengan demikian tidak bergantung pada laju
+     * key repeat OS. Event yang lebih baru dari tick dibiarkan untuk tick
+     * berikutnya.
+     */
+    private void drainKeys(long tickTime, long tickNanos) {
+        long cursor = tickTime - tickNanos;
+        long leftNanos = 0;
+        long rightNanos = 0;
+        while (pendingKeys.peek() && pendingKeys.getTime() <= tickTime) {
+            long time = Math.max(cursor, pendingKeys.getTime());
+            if (leftHeld) {
+                leftNanos += time - cursor;
+            }
+            if (rightHeld) {
+                rightNanos += time - cursor;
+            }
+            cursor = time;
+
+            boolean down = pendingKeys.isPressed();
+            int keyCode = pendingKeys.getKeyCode();
+            // Hanya tombol panah yang baru ditekan saat bermain yang diukur:
+            // tombol lain, tombol panah di layar lain, atau key repeat untuk
+            // tombol yang sudah ditahan tidak mengubah gerakan paddle
+            boolean arrow = keyCode == KeyEvent.VK_LEFT || keyCode == KeyEvent.VK_RIGHT;
+            boolean wasHeld = keyCode == KeyEvent.VK_RIGHT ? rightHeld : leftHeld;
+            if (down && inputTag == 0 && arrow && !wasHeld && world.getGameState() == GameState.PLAYING) {
+                inputTag = pendingKeys.getTime();
+            }
+            switch (keyCode) {
+                case KeyEvent.VK_RIGHT:
+                    rightHeld = down;
+                    break;
+                case KeyEvent.VK_LEFT:
+                    leftHeld = down;
+                    break;
+                case KeyEvent.VK_P:
+                    if (down) {
+                        input.pressPause();
+                    }
+                    break;
+                case KeyEvent.VK_ENTER:
+                    if (down) {
+                        input.pressEnter();
+                    }
+                    break;
+            }
+            pendingKeys.consume();
+        }
+        if (leftHeld) {
+            leftNanos += tickTime - cursor;
+        }
+        if (rightHeld) {
+            rightNanos += tickTime - cursor;
+        }
+        input.setPaddleAxis((rightNanos - leftNanos) / (double) tickNanos);
+    }
+
+    private void publish(long tickTime) {
+        if (inputTag != 0 && inputTag == presentedTag) {
+            inputTag = 0;
+        }
+        FrameSnapshot frame = snapshots.getBack();
+        frame.capture(world, tickTime, loop.getTickNanos());
+        frame.inputTime = inputTag;
+        snapshots.publish();
+    }
+
+    /**
+     * Konfirmasi dari thread render bahwa frame dengan tag input tersebut
+     * sudah tampil, sehingga tombol berikutnya dapat diukur
+     */
+    public void acknowledgeInput(long inputTime) {
+        presentedTag = inputTime;
+    }
+
+    /**
+     * Mulai (atau berhenti, dengan null) mencatat lama setiap tick
+     */
+    public void setTickTimes(TimingHistogram tickTimes) {
+        this.tickTimes = tickTimes;
+    }
+
+    public GameLoop getLoop() {
+        return loop;
+    }
+
+    public SnapshotBuffer getSnapshots() {
+        return snapshots;
+    }
+}
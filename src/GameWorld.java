@@ -0,0 +1,733 @@
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Mesin simulasi game Brick Blast yang berdiri sendiri (tanpa Swing).
+ * Memiliki paddle, daftar bola, map brick, dan power-up, serta semua logika
+ * fisika, tabrakan, power-up, nyawa, dan level.
+ *
+ * Konfigurasi (setMapSize, setEndless, setLevelPack, ...) diatur lebih dulu,
+ * lalu start() membuat level pertama satu kali. Satu pemanggilan step()
+ * sama dengan satu tick game. Kelas ini dapat dijalankan dengan
+ * java.awt.headless=true untuk bot, regression run, dan benchmark.
+ */
+public class GameWorld {
+    // Konstanta game
+    public static final int WIDTH = 692;
+    public static final int HEIGHT = 592;
+    public static final int MAX_LEVEL = 5;
+    public static final int TICKS_PER_SECOND = 125; // Laju tick yang menjadi acuan konstanta fisika
+    public static final int EFFECT_DURATION = 500; // 4 detik pada 125 tick/detik
+
+    // State game
+    private GameState gameState = GameState.START;
+    private int score = 0;
+    private int lives = 3;
+    private int level = 1;
+
+    // Objek-objek game
+    private Paddle paddle;
+    private final BallStore balls = new BallStore();
+    private MapGenerator map;
+    private int fieldWidth = WIDTH;
+
+    // Ukuran map khusus (0 = ukuran bawaan level)
+    private int mapRows = 0;
+    private int mapCols = 0;
+
+    // Mode endless: field bergeser satu piksel setiap ENDLESS_SCROLL_TICKS
+    // tick dan tidak pernah selesai; level naik mengikuti baris yang masuk
+    private boolean endless = false;
+    private double scrollTimer = 0;
+    private static final int ENDLESS_SCROLL_TICKS = 8;
+
+    // Persiapan level berikutnya di latar belakang (null = map dibuat
+    // langsung dari random saat level dimulai), dan seed map level berikutnya
+    private LevelPreloader preloader;
+    private long levelSeed;
+
+    // Layer brick map saat ini yang sudah digambar oleh preloader (null =
+    // renderer menggambarnya sendiri); hanya diteruskan ke FrameSnapshot
+    private BrickLayer preparedBrickLayer;
+
+    // Level rancangan dari file (null = map acak untuk level 1 sampai MAX_LEVEL)
+    private LevelPack levelPack;
+
+    // Level dari file layout yang dipantau (mode perancangan level), dan
+    // layout yang terakhir diterapkan ke map
+    private LevelWatcher levelWatcher;
+    private byte[][] appliedLayout;
+    private final ArrayList<PowerUp> powerUps = new ArrayList<>();
+    private final ArrayDeque<PowerUp> powerUpPool = new ArrayDeque<>();
+    private final Random random;
+
+    // Pemrosesan bola: satu updater untuk mode biasa, dan satu updater per
+    // potongan bola untuk mode paralel
+    private final BallUpdater updater = new BallUpdater(balls);
+    private boolean parallel = false;
+    private BallChunk[] chunks = new BallChunk[0];
+    private final ParallelBalls parallelBalls = new ParallelBalls();
+
+    // Mode paralel hanya dipakai jika bola cukup banyak untuk menutupi biaya
+    // membagi pekerjaan ke ForkJoinPool
+    private static final int PARALLEL_MIN_BALLS = 2048;
+    private static final int CHUNK_SIZE = 512;
+
+    // Waktu fase bola tick ini yang dijumlahkan dari semua updater; hanya
+    // diukur jika event fase tick JFR sedang direkam
+    private long ballPaddleNanos;
+    private long ballBrickNanos;
+    private long ballMoveNanos;
+
+    // Salinan PowerUpType.values() agar tidak membuat array baru setiap spawn
+    private static final PowerUpType[] POWER_UP_TYPES = PowerUpType.values();
+
+    // Timer efek power-up pada paddle
+    private double paddleEffectTimer = 0;
+
+    // Notifikasi power-up
+    private String powerUpMessage = "";
+    private double messageTimer = 0;
+
+    // Panjang tick yang sedang berjalan dalam tick acuan (1 = 1/TICKS_PER_SECOND
+    // detik). Kecepatan dan timer dinyatakan per tick acuan lalu dikalikan
+    // ini, sehingga laju tick lain tidak mengubah kecepatan game.
+    private double dt = 1.0;
+
+    public GameWorld() {
+        this(new Random());
+    }
+
+    /**
+     * Membuat world dengan seed tetap agar hasil simulasi dapat diulang
+     */
+    public GameWorld(long seed) {
+        this(new Random(seed));
+    }
+
+    private GameWorld(Random random) {
+        this.random = random;
+    }
+
+    /**
+     * Membuat level pertama dengan konfigurasi yang sudah diatur lewat setter
+     * (ukuran map, endless, level pack, file level, preload). Dipanggil sekali
+     * setelah semua setter dan sebelum step pertama, sehingga map level
+     * pertama hanya dibangkitkan (atau dimuat) satu kali.
+     */
+    public void start() {
+        level = 1;
+        if (preloader != null) {
+            levelSeed = random.nextLong();
+        }
+        initGame();
+    }
+
+    /**
+     * Inisialisasi atau reset level saat ini
+     */
+    private void initGame() {
+        preparedBrickLayer = null;
+        if (endless) {
+            map = MapGenerator.endless(random.nextLong(), mapCols > 0 ? mapCols : 7);
+            scrollTimer = 0;
+        } else if (levelWatcher != null) {
+            appliedLayout = LevelWatcher.layoutFor(levelWatcher.getLevels(), level);
+            map = LevelWatcher.toMap(appliedLayout);
+        } else if (preloader != null) {
+            LevelPreloader.Level prepared = preloader.take(levelPack, level, mapRows, mapCols, levelSeed);
+            map = prepared.map;
+            preparedBrickLayer = prepared.layer;
+            // Siapkan level berikutnya selagi level ini dimainkan
+            levelSeed = random.nextLong();
+            if (level < getLastLevel()) {
+                preloader.request(levelPack, level + 1, mapRows, mapCols, levelSeed);
+            }
+        } else {
+            map = LevelPreloader.create(levelPack, level, mapRows, mapCols, random);
+        }
+        updateFieldWidth();
+        paddle = new Paddle(Paddle.START_X, fieldWidth);
+        balls.clear();
+        addBall();
+        clearPowerUps();
+        paddleEffectTimer = 0;
+    }
+
+    /**
+     * Field melebar jika brick melewati tepi kanan layar
+     */
+    private void updateFieldWidth() {
+        int mapRight = map.getBrickX(map.getCols());
+        fieldWidth = mapRight > WIDTH ? mapRight + MapGenerator.OFFSET_X : WIDTH;
+    }
+
+    /**
+     * Menerapkan perubahan file layout ke map yang sedang dimainkan. Hanya
+     * sel yang berbeda dari layout sebelumnya yang diubah, sehingga brick yang
+     * sudah dihancurkan di sel lain tetap hancur. Jika ukuran layout berubah,
+     * map diganti seluruhnya; bola, paddle, dan power-up tetap dipertahankan.
+     */
+    private void applyLevelChanges() {
+        List<byte[][]> levels = levelWatcher.pollChange();
+        if (levels == null || endless) {
+            return;
+        }
+        byte[][] layout = LevelWatcher.layoutFor(levels, level);
+        if (layout.length != appliedLayout.length || layout[0].length != appliedLayout[0].length) {
+            map = LevelWatcher.toMap(layout);
+            updateFieldWidth();
+            paddle.setFieldWidth(fieldWidth);
+        } else {
+            for (int i = 0; i < layout.length; i++) {
+                for (int j = 0; j < layout[i].length; j++) {
+                    if (layout[i][j] != appliedLayout[i][j]) {
+                        map.setBrickValue(layout[i][j], i, j);
+                    }
+                }
+            }
+        }
+        appliedLayout = layout;
+    }
+
+    private void addBall() {
+        // Level pack dapat berisi lebih dari MAX_LEVEL level; kecepatan bola
+        // berhenti naik setelah MAX_LEVEL
+        int speedLevel = Math.min(level, MAX_LEVEL);
+        double speedX = Ball.getBaseSpeedX(speedLevel);
+        double speedY = Ball.getBaseSpeedY(speedLevel);
+        // Arah random
+        if (random.nextBoolean())
+            speedX = -speedX;
+        balls.add(350, 500, speedX, -speedY);
+    }
+
+    /**
+     * Uji irisan dua kotak dengan semantik yang sama seperti Rectangle.intersects
+     */
+    static boolean intersects(int x1, int y1, int w1, int h1, int x2, int y2, int w2, int h2) {
+        if (w1 <= 0 || h1 <= 0 || w2 <= 0 || h2 <= 0) {
+            return false;
+        }
+        return x1 < x2 + w2 && x2 < x1 + w1 && y1 < y2 + h2 && y2 < y1 + h1;
+    }
+
+    /**
+     * Menjalankan satu tick game sepanjang satu tick acuan
+     */
+    public void step(GameInput input) {
+        step(input, 1.0);
+    }
+
+    /**
+     * Menjalankan satu tick game: menerapkan input lalu memperbarui simulasi
+     *
+     * @param dt Panjang tick dalam tick acuan, yaitu TICKS_PER_SECOND dibagi
+     *           laju tick yang sebenarnya
+     */
+    public void step(GameInput input, double dt) {
+        this.dt = dt;
+        GameEvents.TickPhase phase = GameEvents.beginTickPhase(GameEvents.TICK_INPUT);
+        savePrevious();
+        applyInput(input);
+        if (levelWatcher != null) {
+            applyLevelChanges();
+        }
+        GameEvents.endTickPhase(phase, balls.size(), powerUps.size());
+
+        if (gameState == GameState.PLAYING) {
+            update();
+        }
+    }
+
+    /**
+     * Menyimpan posisi semua objek bergerak sebelum tick, agar renderer dapat
+     * menginterpolasi posisi di antara dua tick
+     */
+    private void savePrevious() {
+        paddle.savePrevious();
+        balls.savePrevious();
+        for (int i = 0; i < powerUps.size(); i++) {
+            powerUps.get(i).savePrevious();
+        }
+    }
+
+    private void applyInput(GameInput input) {
+        switch (gameState) {
+            case START:
+                if (input.isEnterPressed()) {
+                    gameState = GameState.PLAYING;
+                }
+                break;
+
+            case PLAYING:
+                if (input.getPaddleAxis() != 0) {
+                    paddle.moveBy(input.getPaddleAxis() * Paddle.VELOCITY * dt);
+                }
+                if (input.isPausePressed()) {
+                    gameState = GameState.PAUSED;
+                }
+                break;
+
+            case PAUSED:
+                if (input.isPausePressed()) {
+                    gameState = GameState.PLAYING;
+                }
+                break;
+
+            case LEVEL_COMPLETE:
+                if (input.isEnterPressed()) {
+                    level++;
+                    initGame();
+                    gameState = GameState.PLAYING;
+                }
+                break;
+
+            case GAME_OVER:
+            case WON:
+                if (input.isEnterPressed()) {
+                    score = 0;
+                    lives = 3;
+                    level = 1;
+                    initGame();
+                    gameState = GameState.PLAYING;
+                }
+                break;
+        }
+    }
+
+    private void update() {
+        GameEvents.TickPhase phase = GameEvents.beginTickPhase(GameEvents.TICK_POWER_UPS);
+        updatePowerUps();
+        GameEvents.endTickPhase(phase, balls.size(), powerUps.size());
+
+        // Proses setiap bola (tabrakan paddle, brick, dan dinding); ketiga
+        // fase berjalan bergantian per bola, jadi waktunya diukur per bola
+        // oleh BallUpdater dan dijumlahkan
+        GameEvents.TickPhase paddlePhase = GameEvents.beginTickPhase(GameEvents.TICK_BALL_PADDLE);
+        GameEvents.TickPhase brickPhase = GameEvents.beginTickPhase(GameEvents.TICK_BALL_BRICKS);
+        GameEvents.TickPhase wallPhase = GameEvents.beginTickPhase(GameEvents.TICK_BALL_WALLS);
+        boolean timed = paddlePhase != null;
+        ballPaddleNanos = 0;
+        ballBrickNanos = 0;
+        ballMoveNanos = 0;
+        if (parallel && balls.size() >= PARALLEL_MIN_BALLS) {
+            updateBallsParallel(timed);
+        } else {
+            updateBalls(timed);
+        }
+        GameEvents.endTickPhase(paddlePhase, ballPaddleNanos, balls.size(), powerUps.size());
+        GameEvents.endTickPhase(brickPhase, ballBrickNanos, balls.size(), powerUps.size());
+        GameEvents.endTickPhase(wallPhase, ballMoveNanos, balls.size(), powerUps.size());
+
+        phase = GameEvents.beginTickPhase(GameEvents.TICK_RULES);
+        checkLivesAndLevel();
+        GameEvents.endTickPhase(phase, balls.size(), powerUps.size());
+    }
+
+    /**
+     * Timer efek, timer pesan, dan power-up yang jatuh atau ditangkap paddle
+     */
+    private void updatePowerUps() {
+        // Update timer efek power-up
+        if (paddleEffectTimer > 0) {
+            paddleEffectTimer -= dt;
+            if (paddleEffectTimer <= 0) {
+                paddleEffectTimer = 0;
+                paddle.resetSize();
+            }
+        }
+
+        // Update timer pesan
+        if (messageTimer > 0) {
+            messageTimer = Math.max(0, messageTimer - dt);
+        }
+
+        // Update power-up (jatuh)
+        int p = 0;
+        while (p < powerUps.size()) {
+            PowerUp pu = powerUps.get(p);
+            if (!pu.isActive()) {
+                recyclePowerUp(p);
+                continue;
+            }
+
+            pu.fall(dt);
+
+            // Cek apakah ditangkap paddle
+            if (intersects(pu.getX(), pu.getY(), pu.getWidth(), pu.getHeight(),
+                    paddle.getX(), paddle.getY(), paddle.getWidth(), paddle.getHeight())) {
+                applyPowerUp(pu.getType());
+                pu.deactivate();
+                recyclePowerUp(p);
+                continue;
+            }
+
+            // Hapus jika jatuh ke luar layar
+            if (pu.getY() > HEIGHT) {
+                recyclePowerUp(p);
+                continue;
+            }
+            p++;
+        }
+    }
+
+    /**
+     * Nyawa berkurang jika semua bola hilang; level selesai jika brick habis
+     */
+    private void checkLivesAndLevel() {
+        // Cek apakah semua bola hilang
+        if (balls.isEmpty()) {
+            lives--;
+            if (lives <= 0) {
+                gameState = GameState.GAME_OVER;
+            } else {
+                // Reset untuk nyawa berikutnya
+                addBall();
+                paddle.reset();
+                clearPowerUps();
+                paddleEffectTimer = 0;
+            }
+        }
+
+        // Mode endless: geser field dan naikkan level, tanpa akhir level
+        if (endless) {
+            scrollField();
+            return;
+        }
+
+        // Cek level selesai
+        if (map.getTotalBricks() <= 0) {
+            if (level >= getLastLevel()) {
+                gameState = GameState.WON;
+            } else {
+                gameState = GameState.LEVEL_COMPLETE;
+            }
+        }
+    }
+
+    private void scrollField() {
+        scrollTimer += dt;
+        if (scrollTimer < ENDLESS_SCROLL_TICKS) {
+            return;
+        }
+        // Tick yang panjang dapat menggeser field lebih dari satu piksel
+        while (scrollTimer >= ENDLESS_SCROLL_TICKS) {
+            scrollTimer -= ENDLESS_SCROLL_TICKS;
+            map.scrollDown();
+        }
+        level = Math.min(MAX_LEVEL, 1 + map.getRowsAdvanced() / MapGenerator.ENDLESS_ROWS_PER_TIER);
+    }
+
+    private void updateBalls(boolean timed) {
+        updater.begin(paddle, map, level, fieldWidth, dt, false, timed);
+        int b = 0;
+        while (b < balls.size()) {
+            updater.update(b);
+
+            // Bola jatuh ke bawah layar; bola terakhir pindah ke slot ini
+            // dan diproses pada putaran berikutnya
+            if (balls.getY(b) > HEIGHT) {
+                balls.remove(b);
+            } else {
+                b++;
+            }
+        }
+        applyHits(updater);
+    }
+
+    /**
+     * Memproses bola secara paralel: bola dibagi menjadi potongan berukuran
+     * CHUNK_SIZE yang masing-masing diproses oleh task ForkJoinPool dengan
+     * BallUpdater sendiri. Hasil setiap updater digabung sesuai urutan
+     * potongan, lalu bola yang jatuh dihapus setelah semua task selesai.
+     */
+    private void updateBallsParallel(boolean timed) {
+        int count = balls.size();
+        int chunkCount = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        if (chunks.length < chunkCount) {
+            BallChunk[] grown = Arrays.copyOf(chunks, chunkCount);
+            for (int c = chunks.length; c < chunkCount; c++) {
+                grown[c] = new BallChunk(new BallUpdater(balls));
+            }
+            chunks = grown;
+        }
+        for (int c = 0; c < chunkCount; c++) {
+            BallChunk chunk = chunks[c];
+            chunk.reinitialize();
+            chunk.from = c * CHUNK_SIZE;
+            chunk.to = Math.min(count, chunk.from + CHUNK_SIZE);
+            chunk.updater.begin(paddle, map, level, fieldWidth, dt, true, timed);
+        }
+        parallelBalls.reinitialize();
+        parallelBalls.chunkCount = chunkCount;
+        ForkJoinPool.commonPool().invoke(parallelBalls);
+
+        for (int c = 0; c < chunkCount; c++) {
+            applyHits(chunks[c].updater);
+        }
+
+        int b = 0;
+        while (b < balls.size()) {
+            if (balls.getY(b) > HEIGHT) {
+                balls.remove(b);
+            } else {
+                b++;
+            }
+        }
+    }
+
+    /**
+     * Menerapkan skor, pukulan brick, dan power-up yang dikumpulkan updater,
+     * serta menjumlahkan waktu fase bolanya
+     */
+    private void applyHits(BallUpdater source) {
+        ballPaddleNanos += source.getPaddleNanos();
+        ballBrickNanos += source.getBrickNanos();
+        ballMoveNanos += source.getMoveNanos();
+        score += source.getScore();
+        map.applyConcurrentHits(source.getHits(), source.getDestroyed());
+        for (int i = 0; i < source.getSpawnCount(); i++) {
+            spawnPowerUp(source.getSpawnX(i), source.getSpawnY(i));
+        }
+    }
+
+    private void spawnPowerUp(int x, int y) {
+        PowerUpType type = POWER_UP_TYPES[random.nextInt(POWER_UP_TYPES.length)];
+        PowerUp pu = powerUpPool.poll();
+        if (pu == null) {
+            pu = new PowerUp(x, y, type);
+        } else {
+            pu.reset(x, y, type);
+        }
+        powerUps.add(pu);
+        GameEvents.powerUpSpawned(type, x, y);
+    }
+
+    /**
+     * Mengeluarkan power-up dari daftar aktif dan mengembalikannya ke pool
+     */
+    private void recyclePowerUp(int index) {
+        PowerUp pu = powerUps.remove(index);
+        pu.deactivate();
+        powerUpPool.push(pu);
+    }
+
+    private void clearPowerUps() {
+        for (int i = powerUps.size() - 1; i >= 0; i--) {
+            recyclePowerUp(i);
+        }
+    }
+
+    private void applyPowerUp(PowerUpType type) {
+        powerUpMessage = type.getDescription();
+        messageTimer = 60; // Tampilkan pesan selama ~0.5 detik
+
+        switch (type) {
+            case MULTI_BALL:
+                if (!balls.isEmpty()) {
+                    balls.clone(0, -2);
+                    balls.clone(0, 2);
+                }
+                break;
+
+            case WIDE_PADDLE:
+                paddle.widen();
+                paddleEffectTimer = EFFECT_DURATION;
+                break;
+
+            case NARROW_PADDLE:
+                paddle.narrow();
+                paddleEffectTimer = EFFECT_DURATION;
+                break;
+
+            case SPEED_DOWN:
+                balls.slowDownAll();
+                break;
+
+            case EXTRA_LIFE:
+                lives++;
+                break;
+        }
+        GameEvents.powerUpApplied(type, balls.size());
+    }
+
+    /**
+     * Mengaktifkan pemrosesan bola paralel (dipakai jika jumlah bola
+     * mencapai PARALLEL_MIN_BALLS)
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Mengatur ukuran map (untuk level yang melebar melewati layar); berlaku
+     * mulai start()
+     *
+     * @param rows Jumlah baris brick, 0 = bawaan level
+     * @param cols Jumlah kolom brick, 0 = bawaan level
+     * @throws IllegalArgumentException jika rows melebihi MapGenerator.MAX_ROWS
+     */
+    public void setMapSize(int rows, int cols) {
+        if (rows > 0) {
+            MapGenerator.checkRows(rows);
+        }
+        mapRows = rows;
+        mapCols = cols;
+    }
+
+    /**
+     * Mengaktifkan mode endless (baris brick baru terus masuk dari atas);
+     * berlaku mulai start()
+     */
+    public void setEndless(boolean endless) {
+        this.endless = endless;
+    }
+
+    /**
+     * Mengaktifkan persiapan map level berikutnya di thread latar belakang.
+     * Map setiap level lalu dibangkitkan dari seed sendiri yang diambil dari
+     * random world, sehingga urutan angka acak berbeda dengan mode tanpa
+     * persiapan (tetapi tetap dapat diulang untuk seed world yang sama).
+     * Berlaku mulai start().
+     */
+    public void setPreloadLevels(boolean preload) {
+        preloader = preload ? new LevelPreloader() : null;
+    }
+
+    /**
+     * Memakai level dari level pack (level 1 = level pertama di pack); null
+     * kembali ke map acak. Berlaku mulai start().
+     */
+    public void setLevelPack(LevelPack levelPack) {
+        this.levelPack = levelPack;
+    }
+
+    /**
+     * Memakai level dari file layout yang dipantau; perubahan file langsung
+     * diterapkan ke level yang sedang dimainkan. null = kembali ke sumber
+     * level sebelumnya (level pack atau map acak). Berlaku mulai start().
+     */
+    public void setLevelWatcher(LevelWatcher levelWatcher) {
+        this.levelWatcher = levelWatcher;
+    }
+
+    /**
+     * Level terakhir sebelum game dimenangkan
+     */
+    public int getLastLevel() {
+        if (levelWatcher != null) {
+            return levelWatcher.getLevels().size();
+        }
+        return levelPack != null ? levelPack.getLevelCount() : MAX_LEVEL;
+    }
+
+    public boolean isEndless() {
+        return endless;
+    }
+
+    /**
+     * Lebar field permainan; sama dengan WIDTH kecuali map lebih lebar dari layar
+     */
+    public int getFieldWidth() {
+        return fieldWidth;
+    }
+
+    public GameState getGameState() {
+        return gameState;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLives() {
+        return lives;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public Paddle getPaddle() {
+        return paddle;
+    }
+
+    public BallStore getBalls() {
+        return balls;
+    }
+
+    public MapGenerator getMap() {
+        return map;
+    }
+
+    /**
+     * Layer brick untuk map saat ini yang sudah disiapkan LevelPreloader,
+     * atau null
+     */
+    public BrickLayer getPreparedBrickLayer() {
+        return preparedBrickLayer;
+    }
+
+    public ArrayList<PowerUp> getPowerUps() {
+        return powerUps;
+    }
+
+    public String getPowerUpMessage() {
+        return powerUpMessage;
+    }
+
+    /**
+     * Sisa waktu tampil pesan power-up, dalam tick acuan
+     */
+    public int getMessageTimer() {
+        return (int) Math.ceil(messageTimer);
+    }
+
+    /**
+     * Task yang memproses satu potongan bola [from, to)
+     */
+    private static final class BallChunk extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final BallUpdater updater;
+        private int from;
+        private int to;
+
+        BallChunk(BallUpdater updater) {
+            this.updater = updater;
+        }
+
+        @Override
+        protected void compute() {
+            for (int b = from; b < to; b++) {
+                updater.update(b);
+            }
+        }
+    }
+
+    /**
+     * Task akar yang menjalankan semua potongan bola dan menunggu hingga selesai
+     */
+    private final class ParallelBalls extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private int chunkCount;
+
+        @Override
+        protected void compute() {
+            for (int c = chunkCount - 1; c > 0; c--) {
+                chunks[c].fork();
+            }
+            chunks[0].invoke();
+            for (int c = 1; c < chunkCount; c++) {
+                chunks[c].join();
+            }
+        }
+    }
+}
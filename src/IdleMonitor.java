@@ -0,0 +1,45 @@
+/**
+ * Menentukan kapan loop render boleh turun ke laju idle: selama layar yang
+ * tampil statis (semua state selain PLAYING) dan tidak ada tombol dalam
+ * INPUT_GRACE terakhir. Tombol membangunkan loop ke laju penuh agar
+ * perubahan state akibat tombol itu (misalnya Enter atau P) langsung
+ * tampil; setelah jeda tersebut loop kembali idle.
+ *
+ * inputReceived boleh dipanggil dari thread mana pun; isIdle dipanggil oleh
+ * thread render.
+ */
+public class IdleMonitor {
+    private static final long INPUT_GRACE = 250_000_000L;
+
+    private final long idleInterval;
+    private volatile long lastInput;
+
+    /**
+     * @param idleFps Laju frame saat idle; 0 = tidak pernah idle
+     */
+    public IdleMonitor(int idleFps) {
+        this.idleInterval = idleFps > 0 ? 1_000_000_000L / idleFps : 0;
+        this.lastInput = System.nanoTime() - INPUT_GRACE;
+    }
+
+    /**
+     * Mencatat waktu tombol ditekan atau dilepas
+     */
+    public void inputReceived(long now) {
+        lastInput = now;
+    }
+
+    /**
+     * Apakah frame ini boleh digambar dengan laju idle
+     */
+    public boolean isIdle(FrameSnapshot frame, long now) {
+        return idleInterval > 0 && frame.gameState != GameState.PLAYING && now - lastInput >= INPUT_GRACE;
+    }
+
+    /**
+     * Jarak antar frame saat idle dalam nanodetik (0 jika idle dimatikan)
+     */
+    public long getIdleInterval() {
+        return idleInterval;
+    }
+}
@@ -0,0 +1,91 @@
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Ring buffer lock-free untuk event tombol (ditekan/dilepas) beserta waktu
+ * System.nanoTime saat event diterima. Boleh diisi dari thread mana pun
+ * (biasanya EDT) dan dibaca oleh satu thread simulasi, tanpa alokasi per
+ * event.
+ *
+ * Setiap slot memiliki nomor urut: penulis mengklaim slot dengan
+ * compare-and-set pada tail, menulis isinya, lalu mempublikasikan slot lewat
+ * nomor urutnya; pembaca hanya membaca slot yang sudah dipublikasikan.
+ * Jika buffer penuh, event baru dibuang.
+ */
+public class InputBuffer {
+    private static final int CAPACITY = 256; // Harus pangkat dua
+    private static final int MASK = CAPACITY - 1;
+
+    private final int[] codes = new int[CAPACITY];
+    private final boolean[] pressed = new boolean[CAPACITY];
+    private final long[] times = new long[CAPACITY];
+    private final AtomicLongArray sequence = new AtomicLongArray(CAPACITY);
+    private final AtomicLong tail = new AtomicLong();
+
+    // Hanya diakses thread pembaca
+    private long head = 0;
+
+    public InputBuffer() {
+        for (int i = 0; i < CAPACITY; i++) {
+            sequence.set(i, i);
+        }
+    }
+
+    /**
+     * Menambah event tombol
+     *
+     * @param keyCode Kode tombol (KeyEvent.VK_*)
+     * @param down    true jika tombol ditekan, false jika dilepas
+     * @param time    Waktu event dari System.nanoTime()
+     * @return false jika buffer penuh dan event dibuang
+     */
+    public boolean offer(int keyCode, boolean down, long time) {
+        long slot;
+        while (true) {
+            slot = tail.get();
+            long seq = sequence.get((int) slot & MASK);
+            if (seq == slot) {
+                if (tail.compareAndSet(slot, slot + 1)) {
+                    break;
+                }
+            } else if (seq < slot) {
+                return false;
+            }
+        }
+        int i = (int) slot & MASK;
+        codes[i] = keyCode;
+        pressed[i] = down;
+        times[i] = time;
+        sequence.lazySet(i, slot + 1);
+        return true;
+    }
+
+    /**
+     * Apakah ada event yang siap dibaca; isinya dibaca lewat getKeyCode,
+     * isPressed, dan getTime, lalu dibuang dengan consume
+     */
+    public boolean peek() {
+        return sequence.get((int) head & MASK) == head + 1;
+    }
+
+    public int getKeyCode() {
+        return codes[(int) head & MASK];
+    }
+
+    public boolean isPressed() {
+        return pressed[(int) head & MASK];
+    }
+
+    public long getTime() {
+        return times[(int) head & MASK];
+    }
+
+    /**
+     * Membuang event terdepan sehingga slotnya dapat dipakai lagi
+     */
+    public void consume() {
+        int i = (int) head & MASK;
+        sequence.lazySet(i, head + CAPACITY);
+        head++;
+    }
+}
@@ -0,0 +1,121 @@
+/**
+ * Histogram latensi input-ke-layar: waktu dari tombol panah paddle diterima
+ * listener sampai frame pertama yang memuat hasil tick yang memproses tombol
+ * tersebut selesai ditampilkan (setelah paintComponent atau
+ * BufferStrategy.show).
+ * Latensi compositor dan monitor tidak termasuk.
+ *
+ * Bucket berukuran 0,1 ms sampai 200 ms; latensi yang lebih besar masuk
+ * bucket terakhir, sedangkan min dan max dicatat persis. Ringkasan dicetak
+ * ke stdout setiap REPORT_INTERVAL selama ada sampel baru. Tidak
+ * thread-safe; dipanggil hanya dari thread yang menampilkan frame.
+ */
+public class LatencyTracer {
+    private static final long BUCKET_NANOS = 100_000;
+    private static final int BUCKETS = 2000;
+    private static final long REPORT_INTERVAL = 5_000_000_000L;
+
+    private final String mode;
+    private final long[] buckets = new long[BUCKETS];
+    private long count = 0;
+    private long min = Long.MAX_VALUE;
+    private long max = 0;
+
+    // Tag input terakhir yang dicatat, agar frame yang sama (atau frame
+    // berikutnya dengan tag yang sama) tidak dicatat dua kali
+    private long lastTag = 0;
+    private long lastReport = -1;
+    private long reportedCount = 0;
+
+    /**
+     * @param mode Nama mode rendering/simulasi untuk laporan
+     */
+    public LatencyTracer(String mode) {
+        this.mode = mode;
+    }
+
+    /**
+     * Membuat tracer untuk mode yang dipilih lewat GameConfig
+     *
+     * @return null jika brickblast.traceLatency tidak aktif
+     */
+    public static LatencyTracer create() {
+        if (!GameConfig.TRACE_LATENCY) {
+            return null;
+        }
+        String render = GameConfig.ACTIVE_RENDERING ? "active rendering" : "Swing Timer";
+        String simulation = GameConfig.SIMULATE_ON_EDT ? "simulasi di EDT" : "simulasi di thread sendiri";
+        return new LatencyTracer(render + ", " + simulation);
+    }
+
+    /**
+     * Dipanggil setelah frame ditampilkan
+     *
+     * @param inputTime Tag input pada snapshot (0 = tidak ada input baru)
+     * @param now       Waktu frame selesai ditampilkan
+     * @return true jika tag ini baru dicatat dan perlu dikonfirmasi ke GameRunner
+     */
+    public boolean presented(long inputTime, long now) {
+        if (inputTime == 0 || inputTime == lastTag) {
+            return false;
+        }
+        lastTag = inputTime;
+        record(now - inputTime);
+
+        if (lastReport < 0) {
+            lastReport = now;
+        } else if (now - lastReport >= REPORT_INTERVAL && count > reportedCount) {
+            System.out.println(this);
+            lastReport = now;
+            reportedCount = count;
+        }
+        return true;
+    }
+
+    public void record(long nanos) {
+        int bucket = (int) Math.min(BUCKETS - 1, Math.max(0, nanos) / BUCKET_NANOS);
+        buckets[bucket]++;
+        count++;
+        min = Math.min(min, nanos);
+        max = Math.max(max, nanos);
+    }
+
+    /**
+     * Perkiraan persentil dari histogram (batas atas bucket)
+     *
+     * @param percentile Antara 0 dan 100
+     */
+    public long getPercentileNanos(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(count * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets[i];
+            if (seen >= Math.max(1, rank)) {
+                return Math.min(max, (i + 1) * BUCKET_NANOS);
+            }
+        }
+        return max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMinNanos() {
+        return count == 0 ? 0 : min;
+    }
+
+    public long getMaxNanos() {
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Latensi input (%s): n=%d min=%.1f ms p50=%.1f ms p99=%.1f ms max=%.1f ms",
+                mode, count, getMinNanos() / 1e6, getPercentileNanos(50) / 1e6,
+                getPercentileNanos(99) / 1e6, getMaxNanos() / 1e6);
+    }
+}
@@ -0,0 +1,131 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Kumpulan level rancangan dalam satu file biner. File dipetakan ke memori
+ * dengan FileChannel.map, sehingga pack berisi ribuan level terbuka seketika:
+ * saat dibuka hanya header dan tabel indeks yang diperiksa, dan sel sebuah
+ * level baru didekode saat level tersebut dimainkan (load).
+ *
+ * Format file (big-endian):
+ * <pre>
+ * Header (16 byte)
+ *   int  magic      'BBLP'
+ *   int  version    1
+ *   int  levelCount
+ *   int  reserved   0
+ * Tabel indeks (levelCount x 16 byte)
+ *   long offset     posisi data sel dari awal file
+ *   int  rows
+ *   int  cols
+ * Data sel per level: ceil(rows * cols / 4) byte, 2 bit per sel row-major
+ * (sel pertama di bit terendah), dengan nilai brick 0-3 seperti MapGenerator
+ * </pre>
+ *
+ * File dibuat dengan LevelPackWriter dari layout teks.
+ */
+public class LevelPack {
+    static final int MAGIC = 0x42424C50; // "BBLP"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final int INDEX_ENTRY_SIZE = 16;
+
+    private final ByteBuffer data;
+    private final int levelCount;
+
+    private LevelPack(ByteBuffer data, int levelCount) {
+        this.data = data;
+        this.levelCount = levelCount;
+    }
+
+    /**
+     * Membuka file level pack. Isi file dipetakan read-only (maksimal 2 GB);
+     * channel langsung ditutup karena pemetaan tetap berlaku.
+     *
+     * @throws IOException jika file tidak dapat dibaca atau formatnya tidak valid
+     */
+    public static LevelPack open(Path path) throws IOException {
+        MappedByteBuffer data;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (data.capacity() < HEADER_SIZE || data.getInt(0) != MAGIC) {
+            throw new IOException(path + " bukan file level pack");
+        }
+        if (data.getInt(4) != VERSION) {
+            throw new IOException("Versi level pack tidak didukung: " + data.getInt(4));
+        }
+        int levelCount = data.getInt(8);
+        if (levelCount <= 0) {
+            throw new IOException(path + " tidak berisi level");
+        }
+        if (HEADER_SIZE + (long) levelCount * INDEX_ENTRY_SIZE > data.capacity()) {
+            throw new IOException("Tabel indeks level pack terpotong");
+        }
+
+        // Pastikan setiap entri indeks menunjuk ke dalam file, agar load
+        // tidak pernah membaca di luar batas
+        for (int i = 0; i < levelCount; i++) {
+            int entry = HEADER_SIZE + i * INDEX_ENTRY_SIZE;
+            long offset = data.getLong(entry);
+            int rows = data.getInt(entry + 8);
+            int cols = data.getInt(entry + 12);
+            if (rows <= 0 || rows > MapGenerator.MAX_ROWS || cols <= 0
+                    || (long) rows * cols > Integer.MAX_VALUE
+                    || offset < 0 || offset + packedSize(rows, cols) > data.capacity()) {
+                throw new IOException("Entri indeks level " + (i + 1) + " tidak valid");
+            }
+        }
+        return new LevelPack(data, levelCount);
+    }
+
+    /**
+     * Mendekode level tertentu menjadi map baru. Setiap pemanggilan membuat
+     * map sendiri, sehingga level yang sama dapat dimainkan ulang. Aman
+     * dipanggil dari beberapa thread.
+     *
+     * @param index Indeks level, mulai dari 0
+     */
+    public MapGenerator load(int index) {
+        int rows = getRows(index);
+        int cols = getCols(index);
+        int offset = (int) data.getLong(entry(index));
+        byte[] cells = new byte[rows * cols];
+        for (int i = 0; i < cells.length; i++) {
+            int packed = data.get(offset + (i >>> 2));
+            cells[i] = (byte) ((packed >>> ((i & 3) << 1)) & 3);
+        }
+        return new MapGenerator(rows, cols, cells);
+    }
+
+    public int getLevelCount() {
+        return levelCount;
+    }
+
+    public int getRows(int index) {
+        return data.getInt(entry(index) + 8);
+    }
+
+    public int getCols(int index) {
+        return data.getInt(entry(index) + 12);
+    }
+
+    private int entry(int index) {
+        if (index < 0 || index >= levelCount) {
+            throw new IndexOutOfBoundsException("Level " + index + " di luar 0.." + (levelCount - 1));
+        }
+        return HEADER_SIZE + index * INDEX_ENTRY_SIZE;
+    }
+
+    /**
+     * Jumlah byte data sel untuk level berukuran rows x cols
+     */
+    static long packedSize(int rows, int cols) {
+        return ((long) rows * cols + 3) / 4;
+    }
+}
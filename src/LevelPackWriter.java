@@ -0,0 +1,202 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Alat untuk membuat file LevelPack dari layout teks.
+ *
+ * Format teks: satu baris teks per baris brick, level dipisahkan baris
+ * kosong, dan baris yang diawali '#' adalah komentar.
+ * <pre>
+ * # Level 1
+ * 1111111
+ * 2.3.3.2
+ * </pre>
+ * Karakter '1', '2', '3' adalah nilai brick (normal, power-up, kuat), dan
+ * '.', '0', atau spasi adalah sel kosong. Baris yang lebih pendek diisi sel
+ * kosong sampai selebar baris terpanjang di level tersebut; baris brick yang
+ * seluruhnya kosong ditulis dengan '.' agar tidak dianggap pemisah level.
+ * Satu level paling banyak MapGenerator.MAX_ROWS baris.
+ *
+ * Penggunaan: java LevelPackWriter output.bblp layout1.txt [layout2.txt ...]
+ */
+public class LevelPackWriter {
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Penggunaan: java LevelPackWriter <output.bblp> <layout.txt>...");
+            System.exit(1);
+        }
+        List<byte[][]> levels = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            levels.addAll(readText(Paths.get(args[i])));
+        }
+        write(Paths.get(args[0]), levels);
+        System.out.println(levels.size() + " level ditulis ke " + args[0]);
+    }
+
+    /**
+     * Membaca semua level dari file layout teks
+     *
+     * @return Daftar level, masing-masing sebagai array baris sel
+     */
+    public static List<byte[][]> readText(Path path) throws IOException {
+        List<byte[][]> levels = new ArrayList<>();
+        List<String> block = new ArrayList<>();
+        int lineNumber = 0;
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            lineNumber++;
+            if (line.startsWith("#")) {
+                continue;
+            }
+            if (line.trim().isEmpty()) {
+                addLevel(levels, block);
+                continue;
+            }
+            for (int i = 0; i < line.length(); i++) {
+                if (cellValue(line.charAt(i)) < 0) {
+                    throw new IOException(path + " baris " + lineNumber + ": karakter tidak valid '"
+                            + line.charAt(i) + "'");
+                }
+            }
+            if (block.size() == MapGenerator.MAX_ROWS) {
+                throw new IOException(path + " baris " + lineNumber + ": level melebihi "
+                        + MapGenerator.MAX_ROWS + " baris brick");
+            }
+            block.add(line);
+        }
+        addLevel(levels, block);
+        return levels;
+    }
+
+    private static void addLevel(List<byte[][]> levels, List<String> block) {
+        if (block.isEmpty()) {
+            return;
+        }
+        int cols = 0;
+        for (String line : block) {
+            cols = Math.max(cols, line.length());
+        }
+        byte[][] level = new byte[block.size()][cols];
+        for (int i = 0; i < block.size(); i++) {
+            String line = block.get(i);
+            for (int j = 0; j < line.length(); j++) {
+                level[i][j] = (byte) cellValue(line.charAt(j));
+            }
+        }
+        levels.add(level);
+        block.clear();
+    }
+
+    private static int cellValue(char c) {
+        switch (c) {
+            case '.':
+            case '0':
+            case ' ':
+                return 0;
+            case '1':
+            case '2':
+            case '3':
+                return c - '0';
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * Menulis level ke file dalam format LevelPack
+     *
+     * @throws IllegalArgumentException jika daftar level kosong, ada level
+     *                                  tanpa sel atau dengan lebih dari
+     *                                  MapGenerator.MAX_ROWS baris, baris
+     *                                  level tidak sama panjang, atau nilai
+     *                                  sel di luar 0-3
+     */
+    public static void write(Path path, List<byte[][]> levels) throws IOException {
+        // Periksa semua level sebelum file dibuka agar file lama tidak
+        // terpotong oleh level yang tidak valid
+        if (levels.isEmpty()) {
+            throw new IllegalArgumentException("Level pack harus berisi minimal satu level");
+        }
+        for (int n = 0; n < levels.size(); n++) {
+            validate(n + 1, levels.get(n));
+        }
+
+        int indexSize = LevelPack.HEADER_SIZE + levels.size() * LevelPack.INDEX_ENTRY_SIZE;
+        ByteBuffer header = ByteBuffer.allocate(indexSize);
+        header.putInt(LevelPack.MAGIC);
+        header.putInt(LevelPack.VERSION);
+        header.putInt(levels.size());
+        header.putInt(0);
+
+        long offset = indexSize;
+        for (byte[][] level : levels) {
+            int rows = level.length;
+            int cols = level[0].length;
+            header.putLong(offset);
+            header.putInt(rows);
+            header.putInt(cols);
+            offset += LevelPack.packedSize(rows, cols);
+        }
+        header.flip();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(channel, header);
+            for (byte[][] level : levels) {
+                writeFully(channel, pack(level));
+            }
+        }
+    }
+
+    private static void validate(int number, byte[][] level) {
+        if (level.length == 0 || level[0].length == 0) {
+            throw new IllegalArgumentException("Level " + number + " tidak memiliki sel");
+        }
+        if (level.length > MapGenerator.MAX_ROWS) {
+            throw new IllegalArgumentException("Level " + number + " memiliki " + level.length
+                    + " baris, maksimum " + MapGenerator.MAX_ROWS);
+        }
+        int cols = level[0].length;
+        for (int i = 0; i < level.length; i++) {
+            if (level[i].length != cols) {
+                throw new IllegalArgumentException("Level " + number + " baris " + (i + 1) + ": panjang "
+                        + level[i].length + ", seharusnya " + cols);
+            }
+            for (byte value : level[i]) {
+                if (value < 0 || value > 3) {
+                    throw new IllegalArgumentException("Level " + number + ": nilai brick tidak valid " + value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Memadatkan sel level menjadi 2 bit per sel, sel pertama di bit terendah
+     */
+    private static ByteBuffer pack(byte[][] level) {
+        int cols = level[0].length;
+        ByteBuffer packed = ByteBuffer.allocate((int) LevelPack.packedSize(level.length, cols));
+        int i = 0;
+        for (byte[] row : level) {
+            for (byte value : row) {
+                int index = i >>> 2;
+                packed.put(index, (byte) (packed.get(index) | (value & 3) << ((i & 3) << 1)));
+                i++;
+            }
+        }
+        return packed;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Menyiapkan map level berikutnya (beserta cache sprite dan layer brick-nya)
+ * di thread latar belakang selama level saat ini dimainkan. Map yang sudah
+ * jadi diserahkan lewat AtomicReference, sehingga pergantian level cukup
+ * mengambil satu referensi tanpa membangkitkan map di thread simulasi atau
+ * menggambar field brick di thread render.
+ *
+ * Setiap map dibangkitkan dari seed miliknya sendiri (atau didekode dari
+ * LevelPack), jadi hasilnya sama persis dengan map yang dibuat langsung jika
+ * persiapan belum selesai.
+ */
+public class LevelPreloader {
+    // Satu thread daemon untuk semua world; tugas dijalankan berurutan
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "brickblast-preload");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicReference<Level> ready = new AtomicReference<>();
+
+    /**
+     * Memulai persiapan map di latar belakang; hasil persiapan sebelumnya
+     * yang belum diambil dibuang
+     *
+     * @param pack  Level pack sumber map, atau null untuk map acak
+     * @param level Level map
+     * @param rows  Jumlah baris brick, 0 = bawaan level
+     * @param cols  Jumlah kolom brick, 0 = bawaan level
+     * @param seed  Seed untuk layout brick
+     */
+    public void request(LevelPack pack, int level, int rows, int cols, long seed) {
+        ready.set(null);
+        EXECUTOR.execute(() -> {
+            Level prepared = new Level(pack, level, rows, cols, seed);
+            MapGenerator map = prepared.map;
+            BrickSprites sprites = BrickSprites.prepare(map.getBrickWidth(), map.getBrickHeight());
+            prepared.layer = BrickLayer.prebuild(map, sprites);
+            ready.set(prepared);
+        });
+    }
+
+    /**
+     * Mengambil level yang sudah disiapkan, atau membuat map-nya langsung
+     * (tanpa layer brick) jika persiapannya belum selesai atau untuk
+     * parameter yang berbeda
+     */
+    public Level take(LevelPack pack, int level, int rows, int cols, long seed) {
+        Level prepared = ready.getAndSet(null);
+        if (prepared != null && prepared.pack == pack && prepared.level == level && prepared.rows == rows && prepared.cols == cols
+                && prepared.seed == seed) {
+            return prepared;
+        }
+        return new Level(pack, level, rows, cols, seed);
+    }
+
+    /**
+     * Membuat map untuk level tertentu: dari level pack jika ada, selain itu
+     * map acak dengan ukuran yang diberikan (0 = ukuran bawaan level)
+     */
+    static MapGenerator create(LevelPack pack, int level, int rows, int cols, Random random) {
+        if (pack != null) {
+            return pack.load(level - 1);
+        }
+        if (rows > 0 || cols > 0) {
+            return new MapGenerator(level, rows > 0 ? rows : 2 + level, cols > 0 ? cols : 7, random);
+        }
+        return new MapGenerator(level, random);
+    }
+
+    /**
+     * Map yang sudah jadi beserta parameter pembuatnya dan layer brick yang
+     * sudah digambar (null jika map dibuat langsung oleh take)
+     */
+    static final class Level {
+        final LevelPack pack;
+        final int level;
+        final int rows;
+        final int cols;
+        final long seed;
+        final MapGenerator map;
+        BrickLayer layer;
+
+        Level(LevelPack pack, int level, int rows, int cols, long seed) {
+            this.pack = pack;
+            this.level = level;
+            this.rows = rows;
+            this.cols = cols;
+            this.seed = seed;
+            this.map = create(pack, level, rows, cols, new Random(seed));
+        }
+    }
+}
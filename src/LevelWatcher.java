@@ -0,0 +1,134 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Memantau file layout teks (format LevelPackWriter) dengan WatchService
+ * untuk alur kerja perancangan level: setiap kali file disimpan, thread
+ * pemantau membaca ulang file dan menyerahkan hasilnya lewat
+ * AtomicReference. GameWorld mengambilnya pada tick berikutnya dan hanya
+ * menerapkan sel yang berubah ke map yang sedang dimainkan, sehingga bola
+ * dan paddle tidak ter-reset.
+ *
+ * Jika file tidak valid (misalnya sedang setengah ditulis), pesan kesalahan
+ * dicetak dan level terakhir yang valid tetap dipakai.
+ */
+public class LevelWatcher implements Closeable {
+    private final Path file;
+    private final WatchService service;
+    private final Thread thread;
+
+    // Level terakhir yang berhasil dibaca, dan level yang berubah tetapi
+    // belum diambil oleh simulasi
+    private volatile List<byte[][]> levels;
+    private final AtomicReference<List<byte[][]>> changed = new AtomicReference<>();
+
+    private LevelWatcher(Path file, List<byte[][]> levels) throws IOException {
+        this.file = file.toAbsolutePath();
+        this.levels = levels;
+        service = this.file.getFileSystem().newWatchService();
+        // Direktori yang dipantau, bukan file: editor sering menyimpan
+        // dengan menulis file baru lalu mengganti namanya
+        this.file.getParent().register(service, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+        thread = new Thread(this::watch, "brickblast-level-watch");
+        thread.setDaemon(true);
+    }
+
+    /**
+     * Membaca file layout lalu mulai memantau perubahannya
+     *
+     * @throws IOException jika file tidak dapat dibaca, tidak valid, atau kosong
+     */
+    public static LevelWatcher start(Path file) throws IOException {
+        List<byte[][]> levels = LevelPackWriter.readText(file);
+        if (levels.isEmpty()) {
+            throw new IOException(file + " tidak berisi level");
+        }
+        LevelWatcher watcher = new LevelWatcher(file, levels);
+        watcher.thread.start();
+        return watcher;
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                boolean touched = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (file.getFileName().equals(event.context())) {
+                        touched = true;
+                    }
+                }
+                key.reset();
+                if (touched) {
+                    reload();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Pemantauan dihentikan lewat close()
+        }
+    }
+
+    private void reload() {
+        try {
+            List<byte[][]> loaded = LevelPackWriter.readText(file);
+            if (loaded.isEmpty()) {
+                return;
+            }
+            levels = loaded;
+            changed.set(loaded);
+        } catch (IOException e) {
+            System.err.println("Gagal memuat ulang level: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Level terakhir yang berhasil dibaca dari file
+     */
+    public List<byte[][]> getLevels() {
+        return levels;
+    }
+
+    /**
+     * Mengambil level yang berubah sejak pemanggilan sebelumnya
+     *
+     * @return Daftar level baru, atau null jika file tidak berubah
+     */
+    public List<byte[][]> pollChange() {
+        return changed.getAndSet(null);
+    }
+
+    /**
+     * Layout untuk level tertentu; level di luar jumlah level di file
+     * memakai layout terakhir
+     */
+    static byte[][] layoutFor(List<byte[][]> levels, int level) {
+        return levels.get(Math.min(level, levels.size()) - 1);
+    }
+
+    /**
+     * Membuat map baru dari layout
+     */
+    static MapGenerator toMap(byte[][] layout) {
+        int rows = layout.length;
+        int cols = layout[0].length;
+        byte[] cells = new byte[rows * cols];
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(layout[i], 0, cells, i * cols, cols);
+        }
+        return new MapGenerator(rows, cols, cells);
+    }
+
+    @Override
+    public void close() throws IOException {
+        service.close();
+    }
+}
@@ -1,5 +1,6 @@
 import javax.swing.JFrame;
 import javax.swing.SwingUtilities;
+import java.awt.Component;
 import java.awt.Dimension;
 import java.awt.Toolkit;
 
@@ -11,7 +12,8 @@ public class Main {
     public static void main(String[] args) {
         SwingUtilities.invokeLater(() -> {
             JFrame frame = new JFrame();
-            GamePanel gamePanel = new GamePanel();
+            // Pilih mode rendering: Swing biasa atau active rendering
+            Component gamePanel = GameConfig.ACTIVE_RENDERING ? new GameCanvas() : new GamePanel();
 
             frame.setTitle("Brick Blast - Java Edition");
             frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
@@ -29,6 +31,7 @@ public class Main {
             frame.setLocation(x, y);
 
             frame.setVisible(true);
+            gamePanel.requestFocusInWindow();
         });
     }
 }
@@ -2,8 +2,11 @@ import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.GradientPaint;
 import java.awt.Graphics2D;
-import java.awt.RenderingHints;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Menghasilkan dan mengelola layout brick untuk setiap level.
@@ -14,13 +17,70 @@ import java.util.Random;
  * 1 = brick normal
  * 2 = brick power-up (menjatuhkan power-up saat dihancurkan)
  * 3 = brick kuat (membutuhkan 2x hit)
+ *
+ * Sel disimpan sebagai satu array byte row-major. Setiap baris juga memiliki
+ * bitmask brick hidup dan jumlah brick hidup, sehingga pencarian tabrakan
+ * melewati baris dan kolom kosong tanpa membaca selnya.
+ *
+ * Pada mode endless (lihat endless), array sel dipakai sebagai ring buffer
+ * baris: field bergeser ke bawah, baris paling bawah dibuang, dan slotnya
+ * dipakai untuk baris baru yang dibangkitkan dari seed di bagian atas.
+ * Baris logis 0 selalu baris teratas; rowIndex memetakannya ke slot fisik.
  */
 public class MapGenerator {
-    private int[][] map;
-    private int brickWidth;
-    private int brickHeight;
+    // Posisi kiri atas field brick di layar
+    public static final int OFFSET_X = 80;
+    public static final int OFFSET_Y = 50;
+
+    // Batas bawah field brick (di atas posisi awal bola y = 500 dan paddle
+    // y = 550) dan jumlah baris maksimum yang muat di atasnya dengan tinggi
+    // brick level 5. Semua map, baik acak maupun dari layout, dibatasi ini.
+    public static final int FIELD_BOTTOM = 480;
+    public static final int MAX_ROWS = (FIELD_BOTTOM - OFFSET_Y) / (150 / 7);
+
+    // Sel brick row-major, satu byte per sel
+    private final int rows;
+    private final int cols;
+    private final byte[] cells;
+    private final int brickWidth;
+    private final int brickHeight;
+
+    // Bitmask brick hidup per baris (bit j pada word j / 64 = kolom j) dan
+    // jumlah brick hidup per baris, agar baris/kolom kosong dapat dilewati
+    // tanpa memeriksa setiap sel
+    private final int wordsPerRow;
+    private final long[] occupancy;
+    private final int[] rowBricks;
     private int totalBricks;
-    private Random random = new Random();
+
+    // Ring buffer baris: slot fisik baris logis 0, posisi y baris tersebut
+    // di layar, dan jumlah baris yang sudah bergeser masuk sejak awal
+    private int head = 0;
+    private int originY = OFFSET_Y;
+    private int rowsAdvanced = 0;
+
+    // Mode endless: seed untuk membangkitkan baris, dan nomor urut baris
+    // berikutnya (menentukan tingkat kesulitannya)
+    private final boolean endless;
+    private final long seed;
+    private long nextRowNumber;
+
+    // Jumlah slot baris pada mode endless, jumlah baris berisi di awal, dan
+    // jumlah baris per kenaikan tingkat kesulitan
+    public static final int ENDLESS_ROWS = 16;
+    private static final int ENDLESS_START_ROWS = 5;
+    public static final int ENDLESS_ROWS_PER_TIER = 20;
+    private static final int ENDLESS_EMPTY_PERCENT = 10;
+
+    // Versi isi map; berubah setiap kali sebuah sel diubah. Unik antar semua
+    // MapGenerator agar renderer dapat mendeteksi map baru maupun sel yang berubah.
+    private static final AtomicLong VERSIONS = new AtomicLong();
+    private long version = VERSIONS.incrementAndGet();
+
+    // Akses atomik ke sel, bitmask, dan jumlah brick untuk hitBrickConcurrent
+    private static final VarHandle CELL = MethodHandles.arrayElementVarHandle(byte[].class);
+    private static final VarHandle MASK = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final VarHandle COUNT = MethodHandles.arrayElementVarHandle(int[].class);
 
     // Warna pelangi untuk baris brick
     private static final Color[] BRICK_COLORS = {
@@ -51,138 +111,473 @@ public class MapGenerator {
     private static final Color STRONG_BRICK_DARK = new Color(100, 100, 120);
 
     /**
-     * Membuat map untuk level tertentu
+     * Membuat map untuk level tertentu dengan sumber angka acak yang diberikan
+     * (misalnya Random dengan seed tetap untuk simulasi yang dapat diulang)
+     * 
+     * @param level  Level saat ini (1-5)
+     * @param random Sumber angka acak untuk layout brick
+     */
+    public MapGenerator(int level, Random random) {
+        // Level 1: 3 baris, Level 5: 7 baris, dimampatkan ke area 540x150 px
+        this(level, 2 + level, 7, 540 / 7, 150 / (2 + level), random);
+    }
+
+    /**
+     * Membuat map berukuran bebas, misalnya ratusan ribu brick yang melebar
+     * jauh melewati layar. Ukuran brick sama dengan level 5 (7x7 brick di
+     * area 540x150 px).
      * 
-     * @param level Level saat ini (1-5)
+     * @param level  Level saat ini (menentukan persentase brick khusus)
+     * @param rows   Jumlah baris brick, paling banyak MAX_ROWS
+     * @param cols   Jumlah kolom brick
+     * @param random Sumber angka acak untuk layout brick
      */
-    public MapGenerator(int level) {
-        int rows = 2 + level; // Level 1: 3 baris, Level 5: 7 baris
-        int cols = 7;
+    public MapGenerator(int level, int rows, int cols, Random random) {
+        this(level, rows, cols, 540 / 7, 150 / 7, random);
+    }
+
+    private MapGenerator(int level, int rows, int cols, int brickWidth, int brickHeight, Random random) {
+        this(rows, cols, brickWidth, brickHeight, false, 0);
 
         // Persentase power-up dan brick kuat berdasarkan level
         int powerUpPercent = 15 + level * 3; // 18% sampai 30%
         int strongPercent = (level - 1) * 10; // 0% sampai 40%
 
-        map = new int[rows][cols];
-        totalBricks = 0;
-
         for (int i = 0; i < rows; i++) {
             for (int j = 0; j < cols; j++) {
                 int rand = random.nextInt(100);
 
                 if (rand < strongPercent && level >= 2) {
-                    map[i][j] = 3; // Brick kuat
+                    cells[i * cols + j] = 3; // Brick kuat
                 } else if (rand < strongPercent + powerUpPercent) {
-                    map[i][j] = 2; // Brick power-up
+                    cells[i * cols + j] = 2; // Brick power-up
                 } else {
-                    map[i][j] = 1; // Brick normal
+                    cells[i * cols + j] = 1; // Brick normal
                 }
+                addBrick(i, j);
                 totalBricks++;
             }
         }
+    }
 
-        brickWidth = 540 / cols;
-        brickHeight = 150 / rows;
-    }
-
-    public void draw(Graphics2D g) {
-        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-        for (int i = 0; i < map.length; i++) {
-            for (int j = 0; j < map[0].length; j++) {
-                if (map[i][j] > 0) {
-                    int x = j * brickWidth + 80;
-                    int y = i * brickHeight + 50;
-
-                    Color topColor, bottomColor;
-
-                    if (map[i][j] == 3) {
-                        // Brick kuat - abu-abu/silver
-                        topColor = STRONG_BRICK_COLOR;
-                        bottomColor = STRONG_BRICK_DARK;
-                    } else if (map[i][j] == 2) {
-                        // Brick power-up - biru muda dengan kilau
-                        topColor = POWERUP_BRICK_COLOR;
-                        bottomColor = POWERUP_BRICK_DARK;
-                    } else {
-                        // Brick normal - pelangi berdasarkan baris
-                        int colorIndex = i % BRICK_COLORS.length;
-                        topColor = BRICK_COLORS[colorIndex];
-                        bottomColor = BRICK_COLORS_DARK[colorIndex];
-                    }
-
-                    // Gambar brick dengan gradient
-                    GradientPaint gradient = new GradientPaint(
-                            x, y, topColor,
-                            x, y + brickHeight, bottomColor);
-                    g.setPaint(gradient);
-                    g.fillRoundRect(x, y, brickWidth - 2, brickHeight - 2, 8, 8);
-
-                    // Gambar highlight di atas
-                    g.setColor(new Color(255, 255, 255, 80));
-                    g.fillRoundRect(x + 3, y + 2, brickWidth - 8, brickHeight / 3, 5, 5);
-
-                    // Indikator khusus untuk brick kuat
-                    if (map[i][j] == 3) {
-                        g.setColor(new Color(255, 255, 255, 150));
-                        g.setStroke(new BasicStroke(2));
-                        g.drawLine(x + 5, y + brickHeight / 2, x + brickWidth - 7, y + brickHeight / 2);
-                    }
-
-                    // Indikator bintang untuk brick power-up
-                    if (map[i][j] == 2) {
-                        g.setColor(new Color(255, 255, 100));
-                        g.setFont(new java.awt.Font("Arial", java.awt.Font.BOLD, 12));
-                        g.drawString("★", x + brickWidth / 2 - 5, y + brickHeight / 2 + 4);
-                    }
-
-                    // Gambar border
-                    g.setStroke(new BasicStroke(1));
-                    g.setColor(new Color(0, 0, 0, 100));
-                    g.drawRoundRect(x, y, brickWidth - 2, brickHeight - 2, 8, 8);
+    /**
+     * Membuat map dari layout yang sudah jadi (misalnya level dari LevelPack).
+     * Map dengan 3 sampai 7 baris memenuhi area 540x150 px seperti level
+     * bawaan; map yang lebih besar memakai ukuran brick level 5.
+     * 
+     * @param rows  Jumlah baris brick, paling banyak MAX_ROWS
+     * @param cols  Jumlah kolom brick
+     * @param cells Nilai sel row-major (0-3); array ini dipakai langsung
+     *              sebagai penyimpanan map, bukan disalin
+     */
+    public MapGenerator(int rows, int cols, byte[] cells) {
+        this(rows, cols, 540 / 7, 150 / Math.max(3, Math.min(rows, 7)), cells);
+    }
+
+    private MapGenerator(int rows, int cols, int brickWidth, int brickHeight, byte[] cells) {
+        checkRows(rows);
+        if (cells.length != rows * cols) {
+            throw new IllegalArgumentException("Jumlah sel " + cells.length + " tidak sama dengan " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.brickWidth = brickWidth;
+        this.brickHeight = brickHeight;
+        this.endless = false;
+        this.seed = 0;
+        this.cells = cells;
+        wordsPerRow = (cols + 63) >>> 6;
+        occupancy = new long[rows * wordsPerRow];
+        rowBricks = new int[rows];
+        totalBricks = 0;
+
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                int value = cells[i * cols + j];
+                if (value < 0 || value > 3) {
+                    throw new IllegalArgumentException("Nilai brick tidak valid: " + value);
                 }
+                if (value > 0) {
+                    addBrick(i, j);
+                    totalBricks++;
+                }
+            }
+        }
+    }
+
+    private MapGenerator(int rows, int cols, int brickWidth, int brickHeight, boolean endless, long seed) {
+        checkRows(rows);
+        this.rows = rows;
+        this.cols = cols;
+        this.brickWidth = brickWidth;
+        this.brickHeight = brickHeight;
+        this.endless = endless;
+        this.seed = seed;
+
+        cells = new byte[rows * cols];
+        wordsPerRow = (cols + 63) >>> 6;
+        occupancy = new long[rows * wordsPerRow];
+        rowBricks = new int[rows];
+        totalBricks = 0;
+    }
+
+    /**
+     * Memastikan jumlah baris muat di atas FIELD_BOTTOM
+     *
+     * @throws IllegalArgumentException jika rows di luar 1..MAX_ROWS
+     */
+    public static void checkRows(int rows) {
+        if (rows < 1 || rows > MAX_ROWS) {
+            throw new IllegalArgumentException("Jumlah baris brick " + rows + " di luar 1.." + MAX_ROWS);
+        }
+    }
+
+    /**
+     * Membuat map untuk mode endless: ENDLESS_ROWS slot baris yang dipakai
+     * ulang terus-menerus, dengan beberapa baris berisi di bagian atas.
+     * Baris baru masuk lewat scrollDown. Isi setiap baris hanya bergantung
+     * pada seed dan nomor urut baris, sehingga sesi dapat diulang.
+     * 
+     * @param seed Seed untuk membangkitkan baris
+     * @param cols Jumlah kolom brick
+     */
+    public static MapGenerator endless(long seed, int cols) {
+        MapGenerator map = new MapGenerator(ENDLESS_ROWS, cols, 540 / 7, 150 / 7, true, seed);
+        // Baris pertama (nomor 0) berada paling bawah
+        for (int i = ENDLESS_START_ROWS - 1; i >= 0; i--) {
+            map.generateRow(i, map.nextRowNumber++);
+        }
+        return map;
+    }
+
+    /**
+     * Menggeser field satu piksel ke bawah (hanya untuk mode endless). Setiap
+     * kali field bergeser setinggi satu brick, baris paling bawah dibuang dan
+     * slotnya diisi baris baru di atas, sehingga biaya pembangkitan tersebar
+     * satu baris per sekian tick dan memori tetap konstan.
+     */
+    public void scrollDown() {
+        if (!endless) {
+            return;
+        }
+        originY++;
+        if (originY - OFFSET_Y >= brickHeight) {
+            originY -= brickHeight;
+            int bottom = rowIndex(rows - 1);
+            totalBricks -= rowBricks[bottom];
+            // Slot baris paling bawah menjadi baris logis 0
+            head = bottom;
+            rowsAdvanced++;
+            generateRow(0, nextRowNumber++);
+            version = VERSIONS.incrementAndGet();
+        }
+    }
+
+    /**
+     * Mengisi ulang satu baris dari seed dan nomor urut baris. Tingkat
+     * kesulitan naik setiap ENDLESS_ROWS_PER_TIER baris, dengan persentase
+     * yang sama seperti level 1 sampai 5.
+     */
+    private void generateRow(int row, long number) {
+        int slot = rowIndex(row);
+        Arrays.fill(cells, slot * cols, slot * cols + cols, (byte) 0);
+        Arrays.fill(occupancy, slot * wordsPerRow, slot * wordsPerRow + wordsPerRow, 0L);
+        rowBricks[slot] = 0;
+
+        int tier = (int) Math.min(GameWorld.MAX_LEVEL, 1 + number / ENDLESS_ROWS_PER_TIER);
+        int powerUpPercent = 15 + tier * 3;
+        int strongPercent = (tier - 1) * 10;
+
+        long state = seed ^ (number * 0x9E3779B97F4A7C15L);
+        for (int j = 0; j < cols; j++) {
+            state += 0x9E3779B97F4A7C15L;
+            int rand = (int) Long.remainderUnsigned(mix(state), 100);
+            if (rand < ENDLESS_EMPTY_PERCENT) {
+                continue; // Sel kosong
+            }
+            rand = (int) Long.remainderUnsigned(mix(state ^ 0x5DEECE66DL), 100);
+            int value;
+            if (rand < strongPercent && tier >= 2) {
+                value = 3;
+            } else if (rand < strongPercent + powerUpPercent) {
+                value = 2;
+            } else {
+                value = 1;
             }
+            cells[slot * cols + j] = (byte) value;
+            addBrick(row, j);
+            totalBricks++;
         }
     }
 
+    /**
+     * Fungsi pengacak SplitMix64
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Slot fisik di array sel untuk baris logis tertentu
+     */
+    private int rowIndex(int row) {
+        int slot = row + head;
+        return slot < rows ? slot : slot - rows;
+    }
+
+    /**
+     * Indeks warna pelangi untuk baris logis tertentu. Warna mengikuti baris
+     * saat bergeser ke bawah, bukan posisinya di layar.
+     */
+    public static int colorRow(int row, int rowsAdvanced) {
+        return Math.floorMod(row - rowsAdvanced, BRICK_COLORS.length);
+    }
+
+    /**
+     * Menggambar satu brick dari primitif; hanya dipanggil BrickSprites saat
+     * membuat cache sprite
+     */
+    static void paintBrick(Graphics2D g, int value, int row, int x, int y, int brickWidth, int brickHeight) {
+        Color topColor, bottomColor;
+
+        if (value == 3) {
+            // Brick kuat - abu-abu/silver
+            topColor = STRONG_BRICK_COLOR;
+            bottomColor = STRONG_BRICK_DARK;
+        } else if (value == 2) {
+            // Brick power-up - biru muda dengan kilau
+            topColor = POWERUP_BRICK_COLOR;
+            bottomColor = POWERUP_BRICK_DARK;
+        } else {
+            // Brick normal - pelangi berdasarkan baris
+            int colorIndex = row % BRICK_COLORS.length;
+            topColor = BRICK_COLORS[colorIndex];
+            bottomColor = BRICK_COLORS_DARK[colorIndex];
+        }
+
+        // Gambar brick dengan gradient
+        GradientPaint gradient = new GradientPaint(
+                x, y, topColor,
+                x, y + brickHeight, bottomColor);
+        g.setPaint(gradient);
+        g.fillRoundRect(x, y, brickWidth - 2, brickHeight - 2, 8, 8);
+
+        // Gambar highlight di atas
+        g.setColor(new Color(255, 255, 255, 80));
+        g.fillRoundRect(x + 3, y + 2, brickWidth - 8, brickHeight / 3, 5, 5);
+
+        // Indikator khusus untuk brick kuat
+        if (value == 3) {
+            g.setColor(new Color(255, 255, 255, 150));
+            g.setStroke(new BasicStroke(2));
+            g.drawLine(x + 5, y + brickHeight / 2, x + brickWidth - 7, y + brickHeight / 2);
+        }
+
+        // Indikator bintang untuk brick power-up
+        if (value == 2) {
+            g.setColor(new Color(255, 255, 100));
+            g.setFont(new java.awt.Font("Arial", java.awt.Font.BOLD, 12));
+            g.drawString("★", x + brickWidth / 2 - 5, y + brickHeight / 2 + 4);
+        }
+
+        // Gambar border
+        g.setStroke(new BasicStroke(1));
+        g.setColor(new Color(0, 0, 0, 100));
+        g.drawRoundRect(x, y, brickWidth - 2, brickHeight - 2, 8, 8);
+    }
+
     /**
      * Memukul brick dan mengembalikan apakah harus menjatuhkan power-up
      * 
      * @return true jika brick adalah brick power-up
      */
     public boolean hitBrick(int row, int col) {
-        if (map[row][col] == 3) {
+        int index = rowIndex(row) * cols + col;
+        int value = cells[index];
+        if (value > 0) {
+            version = VERSIONS.incrementAndGet();
+        }
+        if (value == 3) {
             // Brick kuat - kurangi menjadi normal
-            map[row][col] = 1;
+            cells[index] = 1;
             return false;
-        } else if (map[row][col] == 2) {
+        } else if (value == 2) {
             // Brick power-up - hancurkan dan sinyal jatuhkan power-up
-            map[row][col] = 0;
+            cells[index] = 0;
+            removeBrick(row, col);
             totalBricks--;
             return true;
-        } else if (map[row][col] == 1) {
+        } else if (value == 1) {
             // Brick normal - hancurkan
-            map[row][col] = 0;
+            cells[index] = 0;
+            removeBrick(row, col);
             totalBricks--;
             return false;
         }
         return false;
     }
 
+    /**
+     * Versi hitBrick yang aman dipanggil dari beberapa thread sekaligus. Sel
+     * diubah dengan compare-and-set, sehingga dua bola yang memukul brick yang
+     * sama pada tick yang sama masing-masing mengurangi brick tepat satu kali.
+     * totalBricks dan versi tidak diubah di sini; panggil applyConcurrentHits
+     * setelah semua thread selesai.
+     * 
+     * @return Nilai sel sebelum dipukul, atau 0 jika brick sudah hancur
+     */
+    public int hitBrickConcurrent(int row, int col) {
+        int slot = rowIndex(row);
+        int index = slot * cols + col;
+        while (true) {
+            byte value = (byte) CELL.getVolatile(cells, index);
+            if (value <= 0) {
+                return 0;
+            }
+            byte next = value == 3 ? (byte) 1 : (byte) 0;
+            if (CELL.compareAndSet(cells, index, value, next)) {
+                if (next == 0) {
+                    MASK.getAndBitwiseAnd(occupancy, slot * wordsPerRow + (col >>> 6), ~(1L << col));
+                    COUNT.getAndAdd(rowBricks, slot, -1);
+                }
+                return value;
+            }
+        }
+    }
+
+    /**
+     * Menerapkan hasil hitBrickConcurrent ke jumlah brick dan versi map
+     * 
+     * @param hits      Jumlah pukulan yang berhasil
+     * @param destroyed Jumlah brick yang hancur karena pukulan tersebut
+     */
+    public void applyConcurrentHits(int hits, int destroyed) {
+        if (hits > 0) {
+            totalBricks -= destroyed;
+            version = VERSIONS.incrementAndGet();
+        }
+    }
+
+    private void addBrick(int row, int col) {
+        int slot = rowIndex(row);
+        occupancy[slot * wordsPerRow + (col >>> 6)] |= 1L << col;
+        rowBricks[slot]++;
+    }
+
+    private void removeBrick(int row, int col) {
+        int slot = rowIndex(row);
+        occupancy[slot * wordsPerRow + (col >>> 6)] &= ~(1L << col);
+        rowBricks[slot]--;
+    }
+
+    /**
+     * Kolom brick hidup pertama pada baris tertentu dalam rentang
+     * [firstCol, lastCol], dicari lewat bitmask baris (64 kolom per langkah)
+     * 
+     * @return Indeks kolom, atau -1 jika rentang tersebut kosong
+     */
+    public int nextBrick(int row, int firstCol, int lastCol) {
+        int slot = rowIndex(row);
+        if (firstCol > lastCol || rowBricks[slot] == 0) {
+            return -1;
+        }
+        int base = slot * wordsPerRow;
+        int w = firstCol >>> 6;
+        int lastWord = lastCol >>> 6;
+        long word = occupancy[base + w] & (-1L << firstCol);
+        while (true) {
+            if (w == lastWord) {
+                word &= -1L >>> (63 - (lastCol & 63));
+            }
+            if (word != 0) {
+                return (w << 6) + Long.numberOfTrailingZeros(word);
+            }
+            if (++w > lastWord) {
+                return -1;
+            }
+            word = occupancy[base + w];
+        }
+    }
+
+    /**
+     * Mencari brick hidup pertama (urutan baris lalu kolom) yang beririsan
+     * dengan kotak yang diberikan, dengan semantik yang sama seperti
+     * Rectangle.intersects. Hanya sel grid yang tertutup kotak tersebut yang
+     * diperiksa, dan tidak ada objek yang dibuat.
+     * 
+     * @return Indeks sel (row * cols + col), atau -1 jika tidak ada tabrakan
+     */
+    public int findCollision(int x, int y, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            return -1;
+        }
+        // Sel yang tertutup kotak [x, x + width) x [y, y + height)
+        int firstCol = Math.max(0, Math.floorDiv(x - OFFSET_X, brickWidth));
+        int lastCol = Math.min(cols - 1, Math.floorDiv(x + width - 1 - OFFSET_X, brickWidth));
+        int firstRow = Math.max(0, Math.floorDiv(y - originY, brickHeight));
+        int lastRow = Math.min(rows - 1, Math.floorDiv(y + height - 1 - originY, brickHeight));
+
+        for (int i = firstRow; i <= lastRow; i++) {
+            int j = nextBrick(i, firstCol, lastCol);
+            if (j >= 0) {
+                return i * cols + j;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Posisi x kiri brick pada kolom tertentu
+     */
+    public int getBrickX(int col) {
+        return col * brickWidth + OFFSET_X;
+    }
+
+    /**
+     * Posisi y atas brick pada baris tertentu
+     */
+    public int getBrickY(int row) {
+        return row * brickHeight + originY;
+    }
+
+    /**
+     * Mengubah nilai sel; bitmask dan jumlah brick ikut diperbarui
+     */
     public void setBrickValue(int value, int row, int col) {
-        map[row][col] = value;
+        int index = rowIndex(row) * cols + col;
+        if (cells[index] > 0 && value <= 0) {
+            removeBrick(row, col);
+            totalBricks--;
+        } else if (cells[index] <= 0 && value > 0) {
+            addBrick(row, col);
+            totalBricks++;
+        }
+        cells[index] = (byte) value;
+        version = VERSIONS.incrementAndGet();
     }
 
     public int getBrickValue(int row, int col) {
-        return map[row][col];
+        return cells[rowIndex(row) * cols + col];
+    }
+
+    /**
+     * Menyalin sel pada kolom [firstCol, firstCol + count) dari setiap baris
+     * ke array row-major (panjang minimal rows * count)
+     */
+    public void copyCells(byte[] dest, int firstCol, int count) {
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(cells, rowIndex(i) * cols + firstCol, dest, i * count, count);
+        }
     }
 
     public int getRows() {
-        return map.length;
+        return rows;
     }
 
     public int getCols() {
-        return map[0].length;
+        return cols;
     }
 
     public int getBrickWidth() {
@@ -193,6 +588,33 @@ public class MapGenerator {
         return brickHeight;
     }
 
+    /**
+     * Posisi y atas baris logis 0 di layar; pada mode endless bertambah
+     * saat field bergeser ke bawah
+     */
+    public int getOriginY() {
+        return originY;
+    }
+
+    /**
+     * Jumlah baris yang sudah masuk lewat scrollDown sejak map dibuat
+     */
+    public int getRowsAdvanced() {
+        return rowsAdvanced;
+    }
+
+    public boolean isEndless() {
+        return endless;
+    }
+
+    /**
+     * Versi isi map saat ini; berbeda setiap kali hitBrick atau setBrickValue
+     * mengubah sel
+     */
+    public long getVersion() {
+        return version;
+    }
+
     public int getTotalBricks() {
         return totalBricks;
     }
@@ -2,7 +2,6 @@ import java.awt.Color;
 import java.awt.GradientPaint;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.awt.Rectangle;
 import java.awt.RenderingHints;
 
 /**
@@ -11,57 +10,119 @@ import java.awt.RenderingHints;
  */
 public class Paddle {
     private int x;
+    private int prevX;
     private int y = 550;
     private int width;
-    private int defaultWidth = 100;
+    private int defaultWidth = DEFAULT_WIDTH;
     private int height = 12;
-    private int moveSpeed = 30;
+
+    // Posisi awal (tengah layar) dan lebar paddle di awal level
+    public static final int START_X = 310;
+    public static final int DEFAULT_WIDTH = 100;
+
+    // Kecepatan paddle saat tombol ditahan, dalam piksel per tick (900 px/detik
+    // pada 125 tick/detik, setara 30 px per key repeat 30 Hz), dan sisa gerakan
+    // di bawah satu piksel yang dibawa ke tick berikutnya
+    public static final double VELOCITY = 7.2;
+    private double moveRemainder;
     private int limitLeft = 10;
     private int screenWidth = 692;
 
-    // Warna gradient untuk paddle
-    private Color paddleColorTop = new Color(0, 255, 200);
-    private Color paddleColorBottom = new Color(0, 150, 180);
+    // Warna gradient untuk paddle (normal, lebar, dan mengecil)
+    private static final Color NORMAL_TOP = new Color(0, 255, 200);
+    private static final Color NORMAL_BOTTOM = new Color(0, 150, 180);
+    private static final Color WIDE_TOP = new Color(50, 255, 100);
+    private static final Color WIDE_BOTTOM = new Color(30, 180, 60);
+    private static final Color NARROW_TOP = new Color(255, 100, 100);
+    private static final Color NARROW_BOTTOM = new Color(180, 60, 60);
+    private static final Color HIGHLIGHT_COLOR = new Color(255, 255, 255, 100);
+    private static final Color BORDER_COLOR = new Color(0, 100, 130);
+    private Color paddleColorTop = NORMAL_TOP;
+    private Color paddleColorBottom = NORMAL_BOTTOM;
 
     public Paddle(int startX) {
         this.x = startX;
+        this.prevX = startX;
         this.width = defaultWidth;
     }
 
-    public void moveRight() {
-        int limitRight = screenWidth - width - 10;
-        if (x >= limitRight) {
-            x = limitRight;
-        } else {
-            x += moveSpeed;
+    /**
+     * Membuat paddle untuk field yang lebih lebar dari layar (map yang bergulir)
+     * 
+     * @param fieldWidth Lebar field tempat paddle dapat bergerak
+     */
+    public Paddle(int startX, int fieldWidth) {
+        this(startX);
+        this.screenWidth = fieldWidth;
+    }
+
+    /**
+     * Mengganti lebar field (misalnya saat ukuran map berubah di tengah
+     * permainan); paddle digeser masuk jika berada di luar batas baru
+     */
+    public void setFieldWidth(int fieldWidth) {
+        screenWidth = fieldWidth;
+        if (x + width > screenWidth - 10) {
+            x = Math.max(limitLeft, screenWidth - width - 10);
         }
     }
 
-    public void moveLeft() {
-        if (x <= limitLeft) {
+    /**
+     * Menggeser paddle sejauh dx piksel (boleh pecahan) di dalam batas field
+     */
+    public void moveBy(double dx) {
+        double target = x + moveRemainder + dx;
+        int next = (int) Math.floor(target);
+        int limitRight = screenWidth - width - 10;
+        if (next <= limitLeft) {
             x = limitLeft;
+            moveRemainder = 0;
+        } else if (next >= limitRight) {
+            x = limitRight;
+            moveRemainder = 0;
         } else {
-            x -= moveSpeed;
+            x = next;
+            moveRemainder = target - next;
         }
     }
 
-    public void draw(Graphics g) {
+    /**
+     * Menyimpan posisi saat ini sebagai posisi tick sebelumnya (untuk interpolasi)
+     */
+    public void savePrevious() {
+        prevX = x;
+    }
+
+    /**
+     * Menggambar paddle pada posisi dan warna tertentu dengan efek sesuai
+     * tingkat kualitas, tanpa membutuhkan objek Paddle (dipakai renderer yang
+     * menggambar dari FrameSnapshot)
+     */
+    public static void drawAt(Graphics g, int x, int y, int width, int height,
+            Color paddleColorTop, Color paddleColorBottom, RenderQuality quality) {
         Graphics2D g2d = (Graphics2D) g;
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, quality.isAntialiased()
+                ? RenderingHints.VALUE_ANTIALIAS_ON : RenderingHints.VALUE_ANTIALIAS_OFF);
 
         // Gambar paddle dengan gradient
-        GradientPaint gradient = new GradientPaint(
-                x, y, paddleColorTop,
-                x, y + height, paddleColorBottom);
-        g2d.setPaint(gradient);
+        if (quality.hasGradients()) {
+            GradientPaint gradient = new GradientPaint(
+                    x, y, paddleColorTop,
+                    x, y + height, paddleColorBottom);
+            g2d.setPaint(gradient);
+        } else {
+            g2d.setColor(paddleColorTop);
+        }
         g2d.fillRoundRect(x, y, width, height, 10, 10);
 
         // Gambar highlight di atas
-        g2d.setColor(new Color(255, 255, 255, 100));
-        g2d.fillRoundRect(x + 5, y + 2, width - 10, 4, 5, 5);
+        if (quality.hasHighlights()) {
+            g2d.setColor(HIGHLIGHT_COLOR);
+            g2d.fillRoundRect(x + 5, y + 2, width - 10, 4, 5, 5);
+        }
 
         // Gambar border
-        g2d.setColor(new Color(0, 100, 130));
+        g2d.setColor(BORDER_COLOR);
         g2d.drawRoundRect(x, y, width, height, 10, 10);
     }
 
@@ -69,22 +130,40 @@ public class Paddle {
         return x;
     }
 
+    public int getPrevX() {
+        return prevX;
+    }
+
+    public int getY() {
+        return y;
+    }
+
     public int getWidth() {
         return width;
     }
 
-    public Rectangle getRect() {
-        return new Rectangle(x, y, width, height);
+    public int getHeight() {
+        return height;
+    }
+
+    public Color getColorTop() {
+        return paddleColorTop;
+    }
+
+    public Color getColorBottom() {
+        return paddleColorBottom;
     }
 
     /**
      * Reset paddle ke posisi tengah dan ukuran default
      */
     public void reset() {
-        this.x = 310;
+        this.x = START_X;
+        this.prevX = START_X;
+        this.moveRemainder = 0;
         this.width = defaultWidth;
-        this.paddleColorTop = new Color(0, 255, 200);
-        this.paddleColorBottom = new Color(0, 150, 180);
+        this.paddleColorTop = NORMAL_TOP;
+        this.paddleColorBottom = NORMAL_BOTTOM;
     }
 
     /**
@@ -97,8 +176,8 @@ public class Paddle {
             x = screenWidth - width - 10;
         }
         // Ubah warna untuk menandakan power-up aktif
-        paddleColorTop = new Color(50, 255, 100);
-        paddleColorBottom = new Color(30, 180, 60);
+        paddleColorTop = WIDE_TOP;
+        paddleColorBottom = WIDE_BOTTOM;
     }
 
     /**
@@ -107,8 +186,8 @@ public class Paddle {
     public void narrow() {
         width = (int) (defaultWidth * 0.7);
         // Ubah warna untuk menandakan debuff aktif
-        paddleColorTop = new Color(255, 100, 100);
-        paddleColorBottom = new Color(180, 60, 60);
+        paddleColorTop = NARROW_TOP;
+        paddleColorBottom = NARROW_BOTTOM;
     }
 
     /**
@@ -116,7 +195,7 @@ public class Paddle {
      */
     public void resetSize() {
         width = defaultWidth;
-        paddleColorTop = new Color(0, 255, 200);
-        paddleColorBottom = new Color(0, 150, 180);
+        paddleColorTop = NORMAL_TOP;
+        paddleColorBottom = NORMAL_BOTTOM;
     }
 }
@@ -0,0 +1,204 @@
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Overlay debug yang menampilkan waktu tick dan paint (p50/p99), FPS, tick
+ * per detik, tingkat RenderQuality, jumlah bola/power-up/brick, laju
+ * alokasi thread simulasi dan thread render, serta jumlah dan total waktu
+ * GC. Diaktifkan dengan F3 atau -Dbrickblast.perfOverlay=true.
+ *
+ * Selama overlay tidak aktif objek ini tidak ada: GameRunner tidak mengukur
+ * tick dan panel tidak mengukur apa pun selain yang sudah ada. Angka
+ * diperbarui setiap UPDATE_INTERVAL dari jendela sejak pembaruan terakhir,
+ * lalu dirasterisasi ke TextSprite sehingga frame di antaranya cukup
+ * mem-blit teks. Alokasi untuk teks tersebut ikut terhitung pada thread
+ * render.
+ *
+ * draw dan paintFinished dipanggil hanya dari thread render.
+ */
+public class PerfOverlay {
+    private static final long UPDATE_INTERVAL = 500_000_000L;
+    private static final Font FONT = new Font(Font.MONOSPACED, Font.PLAIN, 12);
+    private static final Color TEXT_COLOR = new Color(200, 255, 200);
+    private static final Color BACKGROUND = new Color(0, 0, 0, 170);
+    private static final int LINE_COUNT = 8;
+    private static final int LINE_HEIGHT = 15;
+    private static final Rectangle BOUNDS = new Rectangle(GameWorld.WIDTH - 300, 45, 290,
+            LINE_COUNT * LINE_HEIGHT + 10);
+
+    private final TimingHistogram tickTimes = new TimingHistogram();
+    private final TimingHistogram paintTimes = new TimingHistogram();
+    private long[] tickCounts = new long[TimingHistogram.BUCKETS];
+    private long[] lastTickCounts = new long[TimingHistogram.BUCKETS];
+    private long[] paintCounts = new long[TimingHistogram.BUCKETS];
+    private long[] lastPaintCounts = new long[TimingHistogram.BUCKETS];
+    private long lastTickTotal;
+    private long lastPaintTotal;
+
+    // Alokasi per thread (null jika JVM tidak mendukung) dan GC
+    private final com.sun.management.ThreadMXBean threads;
+    private final long simulationThreadId;
+    private long renderThreadId = -1;
+    private long lastSimulationBytes = -1;
+    private long lastRenderBytes = -1;
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    private long lastGcCount = -1;
+    private long gcMillis;
+
+    private long lastUpdate = -1;
+    private final TextSprite[] lines = new TextSprite[LINE_COUNT];
+
+    /**
+     * @param simulationThread Thread yang menjalankan GameRunner.runFrame
+     */
+    public PerfOverlay(Thread simulationThread) {
+        this.simulationThreadId = simulationThread.getId();
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            threads = (com.sun.management.ThreadMXBean) bean;
+            threads.setThreadAllocatedMemoryEnabled(true);
+        } else {
+            threads = null;
+        }
+    }
+
+    /**
+     * Histogram yang diisi GameRunner dengan lama setiap tick
+     */
+    public TimingHistogram getTickTimes() {
+        return tickTimes;
+    }
+
+    /**
+     * Area layar yang ditempati overlay
+     */
+    public Rectangle getBounds() {
+        return BOUNDS;
+    }
+
+    /**
+     * Mencatat lama paint satu frame
+     */
+    public void paintFinished(long nanos) {
+        paintTimes.record(nanos);
+    }
+
+    /**
+     * Menggambar overlay di atas frame, memperbarui angkanya jika sudah
+     * lewat UPDATE_INTERVAL
+     */
+    public void draw(Graphics2D g, FrameSnapshot frame, RenderQuality quality, long now) {
+        if (lastUpdate < 0) {
+            start(now);
+        } else if (now - lastUpdate >= UPDATE_INTERVAL) {
+            update(frame, quality, now);
+        }
+
+        g.setColor(BACKGROUND);
+        g.fillRect(BOUNDS.x, BOUNDS.y, BOUNDS.width, BOUNDS.height);
+        for (int i = 0; i < LINE_COUNT; i++) {
+            if (lines[i] != null) {
+                lines[i].draw(g, BOUNDS.x + 6, BOUNDS.y + 5 + LINE_HEIGHT * (i + 1) - 3);
+            }
+        }
+    }
+
+    /**
+     * Mengambil titik awal jendela pertama
+     */
+    private void start(long now) {
+        renderThreadId = Thread.currentThread().getId();
+        lastTickTotal = tickTimes.copyCounts(lastTickCounts);
+        lastPaintTotal = paintTimes.copyCounts(lastPaintCounts);
+        lastSimulationBytes = allocatedBytes(simulationThreadId);
+        lastRenderBytes = allocatedBytes(renderThreadId);
+        lastGcCount = gcCount();
+        lastUpdate = now;
+        lines[0] = line("Mengukur...");
+    }
+
+    private void update(FrameSnapshot frame, RenderQuality quality, long now) {
+        double seconds = (now - lastUpdate) / 1e9;
+        long tickTotal = tickTimes.copyCounts(tickCounts);
+        long paintTotal = paintTimes.copyCounts(paintCounts);
+        long simulationBytes = allocatedBytes(simulationThreadId);
+        long renderBytes = allocatedBytes(renderThreadId);
+        long gc = gcCount();
+
+        lines[0] = line(String.format("FPS %6.1f   TPS %6.1f", (paintTotal - lastPaintTotal) / seconds,
+                (tickTotal - lastTickTotal) / seconds));
+        lines[1] = line(String.format("Tick  p50 %6.2f ms  p99 %6.2f ms",
+                TimingHistogram.percentileNanos(tickCounts, lastTickCounts, 50) / 1e6,
+                TimingHistogram.percentileNanos(tickCounts, lastTickCounts, 99) / 1e6));
+        lines[2] = line(String.format("Paint p50 %6.2f ms  p99 %6.2f ms",
+                TimingHistogram.percentileNanos(paintCounts, lastPaintCounts, 50) / 1e6,
+                TimingHistogram.percentileNanos(paintCounts, lastPaintCounts, 99) / 1e6));
+        lines[3] = line("Kualitas " + quality);
+        lines[4] = line(String.format("Bola %d  Power-up %d  Brick %d", frame.ballCount, frame.powerUpCount,
+                frame.brickCount));
+        if (simulationThreadId == renderThreadId) {
+            lines[5] = line("Alokasi sim+render " + rate(simulationBytes, lastSimulationBytes, seconds));
+            lines[6] = null;
+        } else {
+            lines[5] = line("Alokasi sim    " + rate(simulationBytes, lastSimulationBytes, seconds));
+            lines[6] = line("Alokasi render " + rate(renderBytes, lastRenderBytes, seconds));
+        }
+        lines[7] = line(String.format("GC %d (+%d)  total %d ms", gc, gc - lastGcCount, gcMillis));
+
+        // Jendela berikutnya dimulai dari salinan ini
+        long[] swap = lastTickCounts;
+        lastTickCounts = tickCounts;
+        tickCounts = swap;
+        swap = lastPaintCounts;
+        lastPaintCounts = paintCounts;
+        paintCounts = swap;
+        lastTickTotal = tickTotal;
+        lastPaintTotal = paintTotal;
+        lastSimulationBytes = simulationBytes;
+        lastRenderBytes = renderBytes;
+        lastGcCount = gc;
+        lastUpdate = now;
+    }
+
+    private static TextSprite line(String text) {
+        return new TextSprite(text, FONT, TEXT_COLOR);
+    }
+
+    private static String rate(long bytes, long lastBytes, double seconds) {
+        if (bytes < 0 || lastBytes < 0) {
+            return "n/a";
+        }
+        double perSecond = (bytes - lastBytes) / seconds;
+        if (perSecond >= 1024 * 1024) {
+            return String.format("%.1f MB/s", perSecond / (1024 * 1024));
+        }
+        return String.format("%.1f KB/s", perSecond / 1024);
+    }
+
+    /**
+     * Total byte yang pernah dialokasikan thread; -1 jika tidak tersedia
+     */
+    private long allocatedBytes(long threadId) {
+        return threads == null ? -1 : threads.getThreadAllocatedBytes(threadId);
+    }
+
+    /**
+     * Jumlah GC dari semua collector; total waktunya disimpan ke gcMillis
+     */
+    private long gcCount() {
+        long count = 0;
+        long millis = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            count += Math.max(0, collector.getCollectionCount());
+            millis += Math.max(0, collector.getCollectionTime());
+        }
+        gcMillis = millis;
+        return count;
+    }
+}
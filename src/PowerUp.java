@@ -1,9 +1,9 @@
 import java.awt.Color;
+import java.awt.Font;
 import java.awt.GradientPaint;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.RenderingHints;
-import java.awt.Rectangle;
 
 /**
  * Merepresentasikan power-up yang jatuh dari brick yang dihancurkan.
@@ -12,54 +12,90 @@ import java.awt.Rectangle;
 public class PowerUp {
     private int x;
     private int y;
+    private int prevY;
     private int width = 30;
     private int height = 20;
     private int fallSpeed = 2;
+    private double fallRemainder;
     private PowerUpType type;
     private boolean active = true;
 
+    // Simbol setiap tipe power-up, dirasterisasi sekali saat pertama digambar
+    private static final Font SYMBOL_FONT = new Font("Arial", Font.BOLD, 12);
+    private static final TextSprite[] SYMBOLS = new TextSprite[PowerUpType.values().length];
+
     public PowerUp(int x, int y, PowerUpType type) {
+        reset(x, y, type);
+    }
+
+    /**
+     * Mengaktifkan kembali power-up dengan posisi dan tipe baru, agar objek
+     * dari pool dapat dipakai ulang tanpa alokasi
+     */
+    public void reset(int x, int y, PowerUpType type) {
         this.x = x;
         this.y = y;
+        this.prevY = y;
+        this.fallRemainder = 0;
         this.type = type;
+        this.active = true;
     }
 
     /**
-     * Menggerakkan power-up ke bawah
+     * Menggerakkan power-up ke bawah; sisa gerakan di bawah satu piksel
+     * dibawa ke tick berikutnya
+     *
+     * @param dt Panjang tick dalam tick acuan
      */
-    public void fall() {
-        y += fallSpeed;
+    public void fall(double dt) {
+        double target = fallRemainder + fallSpeed * dt;
+        int step = (int) target;
+        y += step;
+        fallRemainder = target - step;
     }
 
     /**
-     * Menggambar power-up dengan gradient dan ikon
+     * Menyimpan posisi saat ini sebagai posisi tick sebelumnya (untuk interpolasi)
      */
-    public void draw(Graphics g) {
+    public void savePrevious() {
+        prevY = y;
+    }
+
+    /**
+     * Menggambar power-up pada posisi tertentu dengan efek sesuai tingkat
+     * kualitas, tanpa membutuhkan objek PowerUp (dipakai renderer yang
+     * menggambar dari FrameSnapshot); simbol selalu digambar
+     */
+    public static void drawAt(Graphics g, int x, int y, int width, int height, PowerUpType type,
+            RenderQuality quality) {
         Graphics2D g2d = (Graphics2D) g;
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, quality.isAntialiased()
+                ? RenderingHints.VALUE_ANTIALIAS_ON : RenderingHints.VALUE_ANTIALIAS_OFF);
 
         Color baseColor = type.getColor();
-        Color darkColor = baseColor.darker();
 
         // Background gradient
-        GradientPaint gradient = new GradientPaint(x, y, baseColor, x, y + height, darkColor);
-        g2d.setPaint(gradient);
+        if (quality.hasGradients()) {
+            g2d.setPaint(new GradientPaint(x, y, baseColor, x, y + height, baseColor.darker()));
+        } else {
+            g2d.setColor(baseColor);
+        }
         g2d.fillRoundRect(x, y, width, height, 8, 8);
 
         // Border
         g2d.setColor(Color.WHITE);
         g2d.drawRoundRect(x, y, width, height, 8, 8);
 
-        // Ikon/Simbol berdasarkan tipe
-        g2d.setColor(Color.WHITE);
-        g2d.setFont(new java.awt.Font("Arial", java.awt.Font.BOLD, 12));
-        String symbol = getSymbol();
-        int textX = x + (width - g2d.getFontMetrics().stringWidth(symbol)) / 2;
-        int textY = y + height / 2 + 4;
-        g2d.drawString(symbol, textX, textY);
+        // Ikon/Simbol berdasarkan tipe, dari cache teks
+        TextSprite symbol = SYMBOLS[type.ordinal()];
+        if (symbol == null) {
+            symbol = new TextSprite(getSymbol(type), SYMBOL_FONT, Color.WHITE);
+            SYMBOLS[type.ordinal()] = symbol;
+        }
+        symbol.draw(g2d, x + (width - symbol.getWidth()) / 2, y + height / 2 + 4);
     }
 
-    private String getSymbol() {
+    private static String getSymbol(PowerUpType type) {
         switch (type) {
             case MULTI_BALL:
                 return "x3";
@@ -76,18 +112,30 @@ public class PowerUp {
         }
     }
 
-    public Rectangle getRect() {
-        return new Rectangle(x, y, width, height);
-    }
-
     public PowerUpType getType() {
         return type;
     }
 
+    public int getX() {
+        return x;
+    }
+
     public int getY() {
         return y;
     }
 
+    public int getPrevY() {
+        return prevY;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
     public boolean isActive() {
         return active;
     }
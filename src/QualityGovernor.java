@@ -0,0 +1,110 @@
+import java.util.Locale;
+
+/**
+ * Mengatur RenderQuality berdasarkan lama render frame. Waktu render
+ * dirata-rata per jendela WINDOW frame: jika rata-rata melewati anggaran,
+ * kualitas turun satu tingkat; jika rata-rata di bawah separuh anggaran
+ * selama beberapa jendela berturut-turut, kualitas naik satu tingkat.
+ *
+ * Jika kualitas harus turun lagi tepat setelah naik, jumlah jendela yang
+ * dibutuhkan untuk naik berikutnya digandakan, agar kualitas tidak
+ * bolak-balik setiap detik di adegan yang berada di batas anggaran.
+ *
+ * Tidak thread-safe; dipanggil hanya dari thread yang menggambar frame.
+ */
+public class QualityGovernor {
+    private static final int WINDOW = 30;
+    private static final int MIN_CLIMB_WINDOWS = 4;
+    private static final int MAX_CLIMB_WINDOWS = 64;
+
+    private final long budgetNanos;
+    private final boolean adaptive;
+    private RenderQuality quality;
+
+    // Jendela pengukuran saat ini
+    private long windowTotal = 0;
+    private int windowFrames = 0;
+
+    // Jendela berturut-turut dengan waktu render jauh di bawah anggaran
+    private int goodWindows = 0;
+    private int climbWindows = MIN_CLIMB_WINDOWS;
+    private boolean justClimbed = false;
+
+    /**
+     * @param quality     Kualitas awal
+     * @param adaptive    false untuk memakai quality terus-menerus
+     * @param budgetNanos Anggaran rata-rata waktu render per frame
+     */
+    public QualityGovernor(RenderQuality quality, boolean adaptive, long budgetNanos) {
+        this.quality = quality;
+        this.adaptive = adaptive;
+        this.budgetNanos = budgetNanos;
+    }
+
+    /**
+     * Membuat governor sesuai brickblast.quality dan brickblast.renderBudgetMs.
+     * Anggaran bawaan adalah separuh jarak antar frame (brickblast.maxFps jika
+     * diatur, selain itu satu tick).
+     */
+    public static QualityGovernor create() {
+        int rate = GameConfig.MAX_FPS > 0 ? GameConfig.MAX_FPS : GameConfig.TICKS_PER_SECOND;
+        long budget = GameConfig.RENDER_BUDGET_MS > 0
+                ? GameConfig.RENDER_BUDGET_MS * 1_000_000L
+                : 1_000_000_000L / rate / 2;
+        String setting = GameConfig.QUALITY.toUpperCase(Locale.ROOT);
+        for (RenderQuality fixed : RenderQuality.values()) {
+            if (fixed.name().equals(setting)) {
+                return new QualityGovernor(fixed, false, budget);
+            }
+        }
+        return new QualityGovernor(RenderQuality.FULL, true, budget);
+    }
+
+    /**
+     * Mencatat lama render satu frame
+     */
+    public void record(long nanos) {
+        if (!adaptive) {
+            return;
+        }
+        windowTotal += nanos;
+        windowFrames++;
+        if (windowFrames < WINDOW) {
+            return;
+        }
+
+        long average = windowTotal / windowFrames;
+        windowTotal = 0;
+        windowFrames = 0;
+
+        boolean overBudget = average > budgetNanos;
+        if (justClimbed) {
+            // Jendela pertama setelah naik menentukan apakah naik berikutnya perlu ditunda lebih lama
+            justClimbed = false;
+            climbWindows = overBudget
+                    ? Math.min(MAX_CLIMB_WINDOWS, climbWindows * 2)
+                    : Math.max(MIN_CLIMB_WINDOWS, climbWindows / 2);
+        }
+
+        if (overBudget) {
+            quality = quality.lower();
+            goodWindows = 0;
+        } else if (average < budgetNanos / 2 && quality != RenderQuality.FULL) {
+            if (++goodWindows >= climbWindows) {
+                quality = quality.higher();
+                goodWindows = 0;
+                justClimbed = true;
+            }
+        } else {
+            goodWindows = 0;
+        }
+    }
+
+    public RenderQuality getQuality() {
+        return quality;
+    }
+
+    public long getBudgetNanos() {
+        return budgetNanos;
+    }
+}
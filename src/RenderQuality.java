@@ -0,0 +1,47 @@
+/**
+ * Tingkat kualitas gambar objek yang digambar setiap frame (bola, paddle,
+ * power-up), dari yang paling lengkap sampai paling murah. Setiap tingkat
+ * menghilangkan satu efek lagi dari tingkat sebelumnya.
+ */
+public enum RenderQuality {
+    /** Semua efek: glow bola, highlight, antialiasing, gradient */
+    FULL,
+    /** Tanpa glow di sekeliling bola */
+    NO_GLOW,
+    /** Tanpa highlight pada bola dan paddle */
+    NO_HIGHLIGHTS,
+    /** Tanpa antialiasing */
+    NO_ANTIALIAS,
+    /** Warna rata tanpa gradient */
+    FLAT;
+
+    public boolean hasGlow() {
+        return this == FULL;
+    }
+
+    public boolean hasHighlights() {
+        return compareTo(NO_HIGHLIGHTS) < 0;
+    }
+
+    public boolean isAntialiased() {
+        return compareTo(NO_ANTIALIAS) < 0;
+    }
+
+    public boolean hasGradients() {
+        return this != FLAT;
+    }
+
+    /**
+     * Tingkat satu langkah lebih murah (FLAT tetap FLAT)
+     */
+    public RenderQuality lower() {
+        return this == FLAT ? FLAT : values()[ordinal() + 1];
+    }
+
+    /**
+     * Tingkat satu langkah lebih lengkap (FULL tetap FULL)
+     */
+    public RenderQuality higher() {
+        return this == FULL ? FULL : values()[ordinal() - 1];
+    }
+}
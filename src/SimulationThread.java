@@ -0,0 +1,31 @@
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Thread khusus yang menjalankan simulasi di luar Event Dispatch Thread.
+ * Setiap putaran menjalankan tick yang jatuh tempo lewat GameRunner, lalu
+ * tidur sampai tick berikutnya, sehingga simulasi dan rendering dapat
+ * berjalan di core yang berbeda.
+ */
+public class SimulationThread extends Thread {
+    private final GameRunner runner;
+    private volatile boolean running = true;
+
+    public SimulationThread(GameRunner runner) {
+        super("brickblast-simulation");
+        this.runner = runner;
+        setDaemon(true);
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            runner.runFrame(System.nanoTime());
+            LockSupport.parkNanos(runner.getLoop().getNanosUntilNextTick());
+        }
+    }
+
+    public void shutdown() {
+        running = false;
+        LockSupport.unpark(this);
+    }
+}
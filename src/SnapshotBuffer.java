@@ -0,0 +1,43 @@
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Triple buffer lock-free untuk menyerahkan FrameSnapshot dari satu penulis
+ * (thread simulasi) ke satu pembaca (renderer).
+ *
+ * Setiap snapshot selalu dimiliki tepat satu pihak: penulis (back), slot
+ * tengah (middle), atau pembaca (front). Perpindahan hanya terjadi lewat
+ * pertukaran atomik, sehingga penulis tidak pernah menimpa snapshot yang
+ * sedang digambar dan tidak ada pihak yang menunggu pihak lain.
+ */
+public class SnapshotBuffer {
+    private final AtomicReference<FrameSnapshot> middle = new AtomicReference<>(new FrameSnapshot());
+    private FrameSnapshot back = new FrameSnapshot();
+    private FrameSnapshot front = new FrameSnapshot();
+    private long nextSequence = 0;
+
+    /**
+     * Snapshot milik penulis yang boleh diisi sebelum publish()
+     */
+    public FrameSnapshot getBack() {
+        return back;
+    }
+
+    /**
+     * Mempublikasikan snapshot yang sudah diisi dan mengambil buffer baru untuk diisi
+     */
+    public void publish() {
+        back.sequence = nextSequence++;
+        back = middle.getAndSet(back);
+    }
+
+    /**
+     * Mengambil snapshot terbaru untuk digambar. Jika belum ada snapshot baru,
+     * snapshot yang sama dengan sebelumnya dikembalikan.
+     */
+    public FrameSnapshot acquireFront() {
+        if (middle.get().sequence > front.sequence) {
+            front = middle.getAndSet(front);
+        }
+        return front;
+    }
+}
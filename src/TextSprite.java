@@ -0,0 +1,68 @@
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+/**
+ * Teks yang sudah dirasterisasi ke image transparan. Teks diukur dan
+ * digambar sekali saat dibuat; setiap frame cukup mem-blit image-nya tanpa
+ * mengukur string dengan FontMetrics atau menyusun glyph ulang.
+ */
+public final class TextSprite {
+    // Ruang ekstra agar tepi antialiasing dan glyph miring tidak terpotong
+    private static final int PADDING = 2;
+
+    // Image kecil untuk mendapatkan FontMetrics tanpa Graphics layar
+    private static final BufferedImage SCRATCH = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+
+    private final BufferedImage image;
+    private final int width;
+    private final int ascent;
+
+    public TextSprite(String text, Font font, Color color) {
+        Graphics2D scratch = SCRATCH.createGraphics();
+        FontMetrics fm;
+        try {
+            fm = scratch.getFontMetrics(font);
+        } finally {
+            scratch.dispose();
+        }
+        width = fm.stringWidth(text);
+        ascent = fm.getAscent();
+        image = BrickSprites.createImage(Math.max(1, width + PADDING * 2), ascent + fm.getDescent() + PADDING * 2);
+
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g.setFont(font);
+            g.setColor(color);
+            g.drawString(text, PADDING, PADDING + ascent);
+        } finally {
+            g.dispose();
+        }
+    }
+
+    /**
+     * Menggambar teks dengan posisi kiri x dan baseline y, seperti drawString
+     */
+    public void draw(Graphics2D g, int x, int y) {
+        g.drawImage(image, x - PADDING, y - ascent - PADDING, null);
+    }
+
+    /**
+     * Menggambar teks di tengah area selebar areaWidth yang dimulai dari x = 0
+     */
+    public void drawCentered(Graphics2D g, int areaWidth, int y) {
+        draw(g, (areaWidth - width) / 2, y);
+    }
+
+    /**
+     * Lebar teks menurut FontMetrics.stringWidth
+     */
+    public int getWidth() {
+        return width;
+    }
+}
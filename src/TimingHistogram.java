@@ -0,0 +1,67 @@
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram durasi kumulatif yang diisi oleh satu thread dan dibaca oleh
+ * thread lain. Penulis hanya menambah hitungan bucket tanpa lock maupun
+ * alokasi; pembaca menyalin semua hitungan secara berkala lalu menghitung
+ * persentil dari selisih dua salinan, sehingga persentil hanya mencakup
+ * jendela waktu di antara kedua salinan.
+ *
+ * Bucket berukuran 10 µs sampai 50 ms; durasi yang lebih besar masuk
+ * bucket terakhir.
+ */
+public class TimingHistogram {
+    public static final int BUCKETS = 5000;
+    private static final long BUCKET_NANOS = 10_000;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /**
+     * Mencatat satu durasi; hanya boleh dipanggil dari satu thread
+     */
+    public void record(long nanos) {
+        int bucket = (int) Math.min(BUCKETS - 1, Math.max(0, nanos) / BUCKET_NANOS);
+        counts.lazySet(bucket, counts.get(bucket) + 1);
+    }
+
+    /**
+     * Menyalin hitungan kumulatif setiap bucket
+     *
+     * @param into Array sepanjang BUCKETS
+     * @return Jumlah seluruh durasi yang tercatat
+     */
+    public long copyCounts(long[] into) {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            into[i] = counts.get(i);
+            total += into[i];
+        }
+        return total;
+    }
+
+    /**
+     * Perkiraan persentil (batas atas bucket) dari durasi yang tercatat di
+     * antara dua salinan copyCounts
+     *
+     * @param percentile Antara 0 dan 100
+     * @return 0 jika tidak ada durasi di jendela tersebut
+     */
+    public static long percentileNanos(long[] current, long[] previous, double percentile) {
+        long window = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            window += current[i] - previous[i];
+        }
+        if (window == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(window * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += current[i] - previous[i];
+            if (seen >= rank) {
+                return (i + 1) * BUCKET_NANOS;
+            }
+        }
+        return BUCKETS * BUCKET_NANOS;
+    }
+}
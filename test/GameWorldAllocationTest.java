@@ -0,0 +1,101 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Memastikan tick GameWorld tidak mengalokasikan objek sama sekali setelah
+ * pemanasan: pool power-up, array bola, dan cache lainnya sudah terisi,
+ * sehingga tick berikutnya harus berjalan tanpa alokasi di heap.
+ *
+ * World memakai seed tetap dan paddle digerakkan bot yang mengikuti bola,
+ * sehingga permainannya selalu sama. Pemanasan dibuat panjang agar JIT sudah
+ * selesai mengompilasi semua jalur tick sebelum pengukuran (deoptimisasi dan
+ * kompilasi ulang C2 mengalokasikan beberapa objek di thread yang sedang
+ * berjalan). Pemanasan memakai jendela yang sama dengan pengukuran, sehingga
+ * kode pengukurnya sendiri ikut terkompilasi. Setelah itu beberapa jendela
+ * diukur berturut-turut dan setiap jendela harus bebas alokasi. Map dibuat
+ * lebar agar seluruh pengukuran tetap di dalam satu level (tanpa initGame),
+ * yang juga diperiksa.
+ */
+public class GameWorldAllocationTest {
+    private static final long SEED = 36;
+    private static final int MAP_ROWS = 20;
+    private static final int MAP_COLUMNS = 30;
+    private static final int WARMUP_TICKS = 16000;
+    private static final int MEASURED_TICKS = 2000;
+    private static final int MEASURED_WINDOWS = 3;
+
+    @Test
+    public void steadyStateTickDoesNotAllocate() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "ThreadMXBean tanpa hitungan alokasi");
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "Hitungan alokasi per thread tidak didukung");
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        GameWorld world = new GameWorld(SEED);
+        world.setMapSize(MAP_ROWS, MAP_COLUMNS);
+        world.start();
+        GameInput input = new GameInput();
+        input.pressEnter();
+        world.step(input);
+        input.clear();
+
+        for (int i = 0; i < WARMUP_TICKS / MEASURED_TICKS; i++) {
+            measure(threads, world, input);
+        }
+        int level = world.getLevel();
+
+        long[] allocated = new long[MEASURED_WINDOWS];
+        for (int window = 0; window < MEASURED_WINDOWS; window++) {
+            allocated[window] = measure(threads, world, input);
+        }
+
+        // Jendela pengukuran harus berupa permainan biasa, bukan layar diam
+        // atau pergantian level
+        assertEquals(GameState.PLAYING, world.getGameState());
+        assertEquals(level, world.getLevel());
+        assertTrue(world.getMap().getTotalBricks() > 0);
+        assertArrayEquals(new long[MEASURED_WINDOWS], allocated,
+                "Byte yang dialokasikan per jendela " + MEASURED_TICKS + " tick");
+    }
+
+    /**
+     * Menjalankan satu jendela MEASURED_TICKS tick
+     *
+     * @return Byte yang dialokasikan thread ini selama jendela tersebut
+     */
+    private static long measure(com.sun.management.ThreadMXBean threads, GameWorld world, GameInput input) {
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_TICKS; i++) {
+            step(world, input);
+        }
+        return threads.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    /**
+     * Satu tick dengan paddle yang mengikuti bola pertama
+     */
+    private static void step(GameWorld world, GameInput input) {
+        BallStore balls = world.getBalls();
+        if (!balls.isEmpty()) {
+            int ballCenter = balls.getX(0) + balls.getSize() / 2;
+            Paddle paddle = world.getPaddle();
+            int paddleCenter = paddle.getX() + paddle.getWidth() / 2;
+            if (ballCenter < paddleCenter - 10) {
+                input.setPaddleAxis(-1);
+            } else if (ballCenter > paddleCenter + 10) {
+                input.setPaddleAxis(1);
+            }
+        }
+        world.step(input);
+        input.clear();
+    }
+}